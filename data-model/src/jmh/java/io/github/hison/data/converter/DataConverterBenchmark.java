@@ -0,0 +1,98 @@
+package io.github.hison.data.converter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.github.hison.data.model.DataModel;
+
+/**
+ * Compares the shared converter returned by {@link DataConverterFactory#getConverter()}, whose date formatter
+ * and ObjectMappers are built once, with a {@link DataConverterDefault} created for every call, which builds
+ * its formatter and ObjectMappers again each time.
+ *
+ * <p>Run with {@code mvn -P benchmark test-compile exec:exec}.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataConverterBenchmark {
+
+    public static class Item {
+        public String name;
+        public int quantity;
+        public double price;
+        public LocalDateTime createdAt;
+    }
+
+    @Param({"1", "100"})
+    public int rowCount;
+
+    private DataModel dataModel;
+    private LocalDateTime dateTime;
+
+    @Setup
+    public void setup() {
+        dataModel = new DataModel("name", "quantity", "price", "createdAt");
+        for (int i = 0; i < rowCount; i++) {
+            HashMap<String, Object> row = new HashMap<>();
+            row.put("name", "item" + i);
+            row.put("quantity", i);
+            row.put("price", i * 1.5);
+            row.put("createdAt", "2024-01-01 00:00:00");
+            dataModel.addRow(row);
+        }
+        dateTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+    }
+
+    @Benchmark
+    public JsonNode toJsonShared() {
+        return DataConverterFactory.getConverter().getConvertedJson(dataModel);
+    }
+
+    @Benchmark
+    public JsonNode toJsonFresh() {
+        return new DataConverterDefault().getConvertedJson(dataModel);
+    }
+
+    @Benchmark
+    public List<Item> toEntitiesShared() {
+        return DataConverterFactory.getConverter().getConvertedEntities(Item.class, dataModel);
+    }
+
+    @Benchmark
+    public List<Item> toEntitiesFresh() {
+        return new DataConverterDefault().getConvertedEntities(Item.class, dataModel);
+    }
+
+    @Benchmark
+    public Object rowValueShared() {
+        return DataConverterFactory.getConverter().getConvertValueToDataModelRowValue(dateTime);
+    }
+
+    @Benchmark
+    public Object rowValueFresh() {
+        return new DataConverterDefault().getConvertValueToDataModelRowValue(dateTime);
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.hison.data.condition;
 
 import java.util.HashMap;
+import java.util.Map;
+
+import io.github.hison.data.exception.DataException;
 import io.github.hison.data.model.DataModel;
 
 /**
@@ -10,10 +13,16 @@ import io.github.hison.data.model.DataModel;
  * <p>This class is primarily used to pass conditions to the search methods within the {@link DataModel}. 
  * It can be thought of as a specialized map tailored for search conditions.</p>
  * 
+ * <p>A value matches a row whose value in the key column is equal to it. A {@link Range} value matches a row
+ * whose value in the key column is within the range, a {@link TextMatch} value a row whose value starts
+ * with or contains a text, and a {@link NormalizedMatch} value a row whose value is equal after normalization;
+ * the static factory methods create such conditions. Any other {@link ValueMatcher} can be used as well.</p>
+ * 
  * <p>Example usage:</p>
  * <pre>
  *     Condition condition = new Condition("username", "JohnDoe");
  *     dataModel.search(condition);
+ *     dataModel.searchRows(Condition.between("createdAt", "2024-01-01", "2024-01-31"));
  * </pre>
  * 
  * @author Hani son
@@ -29,4 +38,135 @@ public class Condition extends HashMap<String, Object> {
     public Condition(String key, Object value) {
         this.put(key, value);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a condition matching the rows whose value is between two bounds, both inclusive.
+     * 
+     * @param key the column name
+     * @param from the lower bound, a number or a string
+     * @param to the upper bound, of the same kind as the lower bound
+     * @return a new condition with a {@link Range} value
+     */
+    public static Condition between(String key, Object from, Object to) {
+        return new Condition(key, Range.between(from, to));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value is greater than a bound.
+     * 
+     * @param key the column name
+     * @param bound the bound, a number or a string
+     * @return a new condition with a {@link Range} value
+     */
+    public static Condition greaterThan(String key, Object bound) {
+        return new Condition(key, Range.greaterThan(bound));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value is greater than or equal to a bound.
+     * 
+     * @param key the column name
+     * @param bound the bound, a number or a string
+     * @return a new condition with a {@link Range} value
+     */
+    public static Condition greaterThanOrEqual(String key, Object bound) {
+        return new Condition(key, Range.greaterThanOrEqual(bound));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value is less than a bound.
+     * 
+     * @param key the column name
+     * @param bound the bound, a number or a string
+     * @return a new condition with a {@link Range} value
+     */
+    public static Condition lessThan(String key, Object bound) {
+        return new Condition(key, Range.lessThan(bound));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value is less than or equal to a bound.
+     * 
+     * @param key the column name
+     * @param bound the bound, a number or a string
+     * @return a new condition with a {@link Range} value
+     */
+    public static Condition lessThanOrEqual(String key, Object bound) {
+        return new Condition(key, Range.lessThanOrEqual(bound));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value starts with a prefix.
+     * 
+     * @param key the column name
+     * @param prefix the prefix
+     * @return a new condition with a {@link TextMatch} value
+     */
+    public static Condition startsWith(String key, String prefix) {
+        return new Condition(key, TextMatch.startsWith(prefix));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value contains a text.
+     * 
+     * @param key the column name
+     * @param text the text to find
+     * @return a new condition with a {@link TextMatch} value
+     */
+    public static Condition contains(String key, String text) {
+        return new Condition(key, TextMatch.contains(text));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value is equal to a value, ignoring case.
+     * 
+     * @param key the column name
+     * @param value the value to match
+     * @return a new condition with a {@link NormalizedMatch} value
+     */
+    public static Condition equalsIgnoreCase(String key, Object value) {
+        return new Condition(key, NormalizedMatch.of(value, TextNormalizer.caseInsensitive()));
+    }
+
+    /**
+     * Creates a condition matching the rows whose value is equal to a value after normalization.
+     * 
+     * @param key the column name
+     * @param value the value to match
+     * @param normalizer the normalizer applied to both values
+     * @return a new condition with a {@link NormalizedMatch} value
+     */
+    public static Condition equalsNormalized(String key, Object value, TextNormalizer normalizer) {
+        return new Condition(key, NormalizedMatch.of(value, normalizer));
+    }
+
+    /**
+     * Tests whether a row matches every entry of this condition.
+     * 
+     * @param row the row to test
+     * @return true if the row matches
+     * @throws DataException if a column of this condition does not exist in the row
+     */
+    public boolean test(HashMap<String, Object> row) {
+        for (Map.Entry<String, Object> entry : entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (!row.containsKey(key)) {
+                throw new DataException("Column " + key + " does not exist.");
+            }
+            Object rowValue = row.get(key);
+            if (value instanceof ValueMatcher) {
+                if (!((ValueMatcher) value).test(rowValue)) {
+                    return false;
+                }
+            } else if (rowValue == null) {
+                if (value != null) {
+                    return false;
+                }
+            } else if (!rowValue.equals(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.hison.data.condition;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A value used as the value of a {@link Condition}, matching the values of a column that are equal to it
+ * after normalization with a {@link TextNormalizer}, for example ignoring case.
+ *
+ * <p>The value of the condition is normalized once, when the match is created. Searches with a normalized
+ * match on a column with a normalized index of the same normalizer, see
+ * {@link io.github.hison.data.model.DataModel#addNormalizedIndex(String, TextNormalizer)}, look the key up
+ * instead of normalizing the value of every row. Null values never match.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ *     dataModel.searchRows(Condition.equalsIgnoreCase("city", "seoul"));
+ *     dataModel.searchRows(new Condition("name", NormalizedMatch.of(name, TextNormalizer.nfcCaseInsensitive())));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class NormalizedMatch implements ValueMatcher {
+    private final Object value;
+    private final TextNormalizer normalizer;
+    private final String key;
+
+    private NormalizedMatch(Object value, TextNormalizer normalizer) {
+        if (value == null || normalizer == null) {
+            throw new DataException("The value and the normalizer must not be null.");
+        }
+        this.value = value;
+        this.normalizer = normalizer;
+        this.key = normalizer.normalize(value);
+    }
+
+    /**
+     * Creates a match for the values equal to the given value after normalization.
+     */
+    public static NormalizedMatch of(Object value, TextNormalizer normalizer) {
+        return new NormalizedMatch(value, normalizer);
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public TextNormalizer getNormalizer() {
+        return normalizer;
+    }
+
+    /**
+     * Returns the normalized key of the value.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean test(Object value) {
+        return value != null && key.equals(normalizer.normalize(value));
+    }
+
+    @Override
+    public String toString() {
+        return normalizer + "(" + value + ")";
+    }
+}
@@ -0,0 +1,215 @@
+package io.github.hison.data.condition;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A range of values used as the value of a {@link Condition}, so that a condition can match a range of a column
+ * instead of a single value.
+ *
+ * <p>If the bounds are numbers, the values of the column are compared as numbers, parsing numeric strings;
+ * if the bounds are strings, the values are compared lexicographically by their string form, which suits
+ * date-time strings in a sortable format. Null values never match a range.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ *     dataModel.searchRows(new Condition("amount", Range.between(100, 500)));
+ *     dataModel.searchRows(Condition.greaterThanOrEqual("createdAt", "2024-01-01 00:00:00"));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class Range implements ValueMatcher {
+    private final Object lower;
+    private final Object upper;
+    private final boolean lowerInclusive;
+    private final boolean upperInclusive;
+    private final boolean numeric;
+    private final double lowerNumber;
+    private final double upperNumber;
+
+    private Range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        if (lower == null && upper == null) {
+            throw new DataException("A range requires at least one bound.");
+        }
+        Boolean lowerNumeric = lower == null ? null : isNumericBound(lower);
+        Boolean upperNumeric = upper == null ? null : isNumericBound(upper);
+        if (lowerNumeric != null && upperNumeric != null && !lowerNumeric.equals(upperNumeric)) {
+            throw new DataException("Mixed types are not allowed");
+        }
+        this.lower = lower;
+        this.upper = upper;
+        this.lowerInclusive = lowerInclusive;
+        this.upperInclusive = upperInclusive;
+        this.numeric = lowerNumeric != null ? lowerNumeric : upperNumeric;
+        this.lowerNumber = numeric && lower != null ? ((Number) lower).doubleValue() : Double.NEGATIVE_INFINITY;
+        this.upperNumber = numeric && upper != null ? ((Number) upper).doubleValue() : Double.POSITIVE_INFINITY;
+    }
+
+    private static boolean isNumericBound(Object bound) {
+        if (bound instanceof Number) {
+            return true;
+        }
+        if (bound instanceof String || bound instanceof Character) {
+            return false;
+        }
+        throw new DataException("A range bound must be a number or a string: " + bound.getClass().getName());
+    }
+
+    /**
+     * Creates a range of the values between two bounds, both inclusive.
+     */
+    public static Range between(Object from, Object to) {
+        return new Range(from, true, to, true);
+    }
+
+    /**
+     * Creates a range of the values greater than a bound.
+     */
+    public static Range greaterThan(Object bound) {
+        return new Range(bound, false, null, false);
+    }
+
+    /**
+     * Creates a range of the values greater than or equal to a bound.
+     */
+    public static Range greaterThanOrEqual(Object bound) {
+        return new Range(bound, true, null, false);
+    }
+
+    /**
+     * Creates a range of the values less than a bound.
+     */
+    public static Range lessThan(Object bound) {
+        return new Range(null, false, bound, false);
+    }
+
+    /**
+     * Creates a range of the values less than or equal to a bound.
+     */
+    public static Range lessThanOrEqual(Object bound) {
+        return new Range(null, false, bound, true);
+    }
+
+    public Object getLower() {
+        return lower;
+    }
+
+    public Object getUpper() {
+        return upper;
+    }
+
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    /**
+     * Returns whether the bounds are numbers, in which case values are compared as numbers.
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Tests whether a cell value is within this range.
+     *
+     * @param value the cell value
+     * @return true if the value is not null and within the range
+     * @throws DataException if the bounds are numbers and the value cannot be converted to a number
+     */
+    @Override
+    public boolean test(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (numeric) {
+            double number;
+            if (value instanceof Number) {
+                number = ((Number) value).doubleValue();
+            } else {
+                try {
+                    number = Double.parseDouble(value.toString());
+                } catch (NumberFormatException e) {
+                    throw new DataException("Cannot convert string to number");
+                }
+            }
+            return contains(number);
+        }
+        String string = value.toString();
+        if (lower != null) {
+            int result = string.compareTo(lower.toString());
+            if (result < 0 || (result == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+        if (upper != null) {
+            int result = string.compareTo(upper.toString());
+            if (result > 0 || (result == 0 && !upperInclusive)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean contains(double number) {
+        if (number < lowerNumber || (number == lowerNumber && !lowerInclusive)) {
+            return false;
+        }
+        return number < upperNumber || (number == upperNumber && upperInclusive);
+    }
+
+    /**
+     * Returns whether any number between the given minimum and maximum, both inclusive, can be within this
+     * range. Always true for a range of strings.
+     *
+     * @param min the smallest number of a set of values
+     * @param max the largest number of a set of values
+     * @return false if no number in {@code [min, max]} is within this range
+     */
+    public boolean overlaps(double min, double max) {
+        if (!numeric) {
+            return true;
+        }
+        if (max < lowerNumber || (max == lowerNumber && !lowerInclusive)) {
+            return false;
+        }
+        return min < upperNumber || (min == upperNumber && upperInclusive);
+    }
+
+    /**
+     * Returns whether any string between the given minimum and maximum, both inclusive, can be within this
+     * range. Always true for a range of numbers.
+     *
+     * @param min the lexicographically smallest string of a set of values
+     * @param max the lexicographically largest string of a set of values
+     * @return false if no string in {@code [min, max]} is within this range
+     */
+    public boolean overlaps(String min, String max) {
+        if (numeric) {
+            return true;
+        }
+        if (lower != null) {
+            int result = max.compareTo(lower.toString());
+            if (result < 0 || (result == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+        if (upper != null) {
+            int result = min.compareTo(upper.toString());
+            if (result > 0 || (result == 0 && !upperInclusive)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return (lower == null ? "(-inf" : (lowerInclusive ? "[" : "(") + lower) + ", "
+                + (upper == null ? "+inf)" : upper + (upperInclusive ? "]" : ")"));
+    }
+}
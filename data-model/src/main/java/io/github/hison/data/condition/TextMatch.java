@@ -0,0 +1,72 @@
+package io.github.hison.data.condition;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A text pattern used as the value of a {@link Condition}, matching the values of a column that start with or
+ * contain a given text.
+ *
+ * <p>Values are compared by their string form and null values never match. Searches with a text condition on
+ * a column with a text index, see {@link io.github.hison.data.model.DataModel#addTextIndex(String, boolean)},
+ * read only the rows whose value matches.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ *     dataModel.searchRows(Condition.startsWith("name", "Kim"));
+ *     dataModel.searchRows(new Condition("code", TextMatch.contains("-01-")));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class TextMatch implements ValueMatcher {
+    private final String text;
+    private final boolean prefix;
+
+    private TextMatch(String text, boolean prefix) {
+        if (text == null) {
+            throw new DataException("The text to match must not be null.");
+        }
+        this.text = text;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Creates a pattern matching the values that start with the given prefix.
+     */
+    public static TextMatch startsWith(String prefix) {
+        return new TextMatch(prefix, true);
+    }
+
+    /**
+     * Creates a pattern matching the values that contain the given text.
+     */
+    public static TextMatch contains(String text) {
+        return new TextMatch(text, false);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns true if this pattern matches a prefix, false if it matches a substring anywhere.
+     */
+    public boolean isPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public boolean test(Object value) {
+        if (value == null) {
+            return false;
+        }
+        String string = value.toString();
+        return prefix ? string.startsWith(text) : string.contains(text);
+    }
+
+    @Override
+    public String toString() {
+        return (prefix ? "startsWith(" : "contains(") + text + ")";
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.hison.data.condition;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Collator;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Function;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Turns values into keys that are equal for values that should match, such as the upper and lower case forms
+ * of a word, for {@link NormalizedMatch} conditions and normalized indexes.
+ *
+ * <p>Values are normalized by their string form. The provided normalizers are case folding, Unicode NFC
+ * normalization, their combination, and the collation key of a {@link Collator}, which also covers
+ * locale-specific rules such as ignoring accents. Two normalizers are the same if they are the same instance;
+ * the factory methods without arguments always return the same instance.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * TextNormalizer normalizer = TextNormalizer.caseInsensitive();
+ * normalizer.normalize("Seoul").equals(normalizer.normalize("SEOUL")); // true
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class TextNormalizer {
+    private static final TextNormalizer CASE_INSENSITIVE = new TextNormalizer("caseInsensitive",
+            s -> s.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT));
+    private static final TextNormalizer NFC = new TextNormalizer("nfc",
+            s -> Normalizer.normalize(s, Normalizer.Form.NFC));
+    private static final TextNormalizer NFC_CASE_INSENSITIVE = new TextNormalizer("nfcCaseInsensitive",
+            s -> Normalizer.normalize(s, Normalizer.Form.NFC).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT));
+
+    private final String name;
+    private final Function<String, String> function;
+
+    private TextNormalizer(String name, Function<String, String> function) {
+        this.name = name;
+        this.function = function;
+    }
+
+    /**
+     * Returns the normalizer that folds the case of the characters, independent of the default locale.
+     */
+    public static TextNormalizer caseInsensitive() {
+        return CASE_INSENSITIVE;
+    }
+
+    /**
+     * Returns the normalizer that applies Unicode normalization form C, so that composed and decomposed
+     * forms of the same characters, such as Hangul syllables and their jamo, match.
+     */
+    public static TextNormalizer nfc() {
+        return NFC;
+    }
+
+    /**
+     * Returns the normalizer that applies Unicode normalization form C and then folds the case.
+     */
+    public static TextNormalizer nfcCaseInsensitive() {
+        return NFC_CASE_INSENSITIVE;
+    }
+
+    /**
+     * Creates a normalizer whose keys are the collation keys of a collator. Values match if the collator
+     * considers them equal, e.g. ignoring case and accents with a strength of {@link Collator#PRIMARY}.
+     * The collator must not be changed afterwards.
+     *
+     * @param collator the collator
+     * @return a new normalizer
+     */
+    public static TextNormalizer collator(Collator collator) {
+        if (collator == null) {
+            throw new DataException("The collator must not be null.");
+        }
+        return new TextNormalizer("collator", s -> {
+            byte[] key;
+            // A Collator is not thread-safe.
+            synchronized (collator) {
+                key = collator.getCollationKey(s).toByteArray();
+            }
+            return new String(key, StandardCharsets.ISO_8859_1);
+        });
+    }
+
+    /**
+     * Creates a normalizer from a function on strings.
+     *
+     * @param name the name of the normalizer, used in {@link #toString()}
+     * @param function the function computing the key of a string; it must be thread-safe
+     * @return a new normalizer
+     */
+    public static TextNormalizer of(String name, Function<String, String> function) {
+        if (function == null) {
+            throw new DataException("The function must not be null.");
+        }
+        return new TextNormalizer(name, function);
+    }
+
+    /**
+     * Returns the key of a value, or null for a null value.
+     *
+     * @param value the value to normalize
+     * @return the normalized key of the string form of the value
+     */
+    public String normalize(Object value) {
+        return value == null ? null : function.apply(value.toString());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
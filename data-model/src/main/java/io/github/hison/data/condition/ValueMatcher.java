@@ -0,0 +1,24 @@
+package io.github.hison.data.condition;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@link Condition} value that matches cell values by a rule other than equality.
+ *
+ * <p>When the value of a condition entry implements this interface, a row matches if {@link #test(Object)}
+ * returns true for its value in the key column, instead of if the value is equal. {@link Range},
+ * {@link TextMatch} and {@link NormalizedMatch} are the provided implementations.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public interface ValueMatcher extends Predicate<Object> {
+    /**
+     * Tests a cell value, which may be null.
+     *
+     * @param value the cell value
+     * @return true if the value matches
+     */
+    @Override
+    boolean test(Object value);
+}
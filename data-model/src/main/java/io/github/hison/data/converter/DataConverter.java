@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -16,6 +17,21 @@ import io.github.hison.data.model.DataModel;
 public interface DataConverter{
     String getConvertJsonValueNodeToDataModelRowValue(JsonNode valueNode);
 
+    /**
+     * Converts the scalar JSON value at the current token of the parser to a DataModel row value, with the
+     * same result as {@link #getConvertJsonValueNodeToDataModelRowValue(JsonNode)} for the node of that value.
+     * Used while reading a DataModel from JSON without building a tree. The default implementation reads the
+     * value as a node; implementations can read the token directly instead.
+     *
+     * @param jp the parser positioned at a scalar value token
+     * @return the converted value
+     * @throws IOException if the value cannot be read
+     */
+    default String getConvertJsonTokenToDataModelRowValue(JsonParser jp) throws IOException {
+        JsonNode valueNode = jp.readValueAsTree();
+        return getConvertJsonValueNodeToDataModelRowValue(valueNode);
+    }
+
     JsonNode getConvertedJson(DataModel dm);
 
     void serialize(DataModel dataModel, JsonGenerator gen, SerializerProvider serializers) throws IOException;
@@ -7,10 +7,15 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,6 +25,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import io.github.hison.data.exception.DataException;
 import io.github.hison.data.model.DataModel;
+import io.github.hison.data.model.DataModelFormat;
 
 /**
  * Default implementation of the {@link DataConverter} interface, providing standard methods for 
@@ -64,6 +70,87 @@ import io.github.hison.data.model.DataModel;
  * @version 1.0.7
  */
 public class DataConverterDefault implements DataConverter{
+    private static final Pattern ISO_DATE_TIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}Z");
+
+    private static final Set<Class<?>> PRIMITIVE_WRAPPERS = new HashSet<>(Arrays.asList(
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class
+    ));
+
+    private volatile Settings settings;
+
+    /**
+     * The formatter, time zone and ObjectMappers built for one date format and time zone. The mappers are
+     * created when first requested and shared afterwards, so that Jackson's serializer and deserializer caches
+     * are reused across calls.
+     */
+    private static final class Settings {
+        private final String dateFormat;
+        private final String timeZoneId;
+        private final DateTimeFormatter formatter;
+        private final ZoneId zoneId;
+        private volatile ObjectMapper dataModelToJsonMapper;
+        private volatile ObjectMapper dataModelToEntitiesMapper;
+        private volatile ObjectMapper entitiesToDataModelMapper;
+
+        private Settings(String dateFormat, String timeZoneId) {
+            this.dateFormat = dateFormat;
+            this.timeZoneId = timeZoneId;
+            this.formatter = DateTimeFormatter.ofPattern(dateFormat);
+            this.zoneId = timeZoneId != null && !timeZoneId.isEmpty() ? ZoneId.of(timeZoneId) : null;
+        }
+
+        private boolean matches(String dateFormat, String timeZoneId) {
+            return this.dateFormat.equals(dateFormat) && Objects.equals(this.timeZoneId, timeZoneId);
+        }
+    }
+
+    /**
+     * Returns the settings for the current {@link #getDateFormat()} and {@link #getTimeZoneId()}, building
+     * new ones only if either of them has changed since the last call.
+     */
+    private Settings getSettings() {
+        String dateFormat = getDateFormat();
+        String timeZoneId = getTimeZoneId();
+        Settings current = settings;
+        if (current == null || !current.matches(dateFormat, timeZoneId)) {
+            current = new Settings(dateFormat, timeZoneId);
+            settings = current;
+        }
+        return current;
+    }
+
+    private ObjectMapper createObjectMapper(Settings current) {
+        ObjectMapper mapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(current.dateFormat));
+        module.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(current.dateFormat));
+        mapper.registerModule(module);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.configure(SerializationFeature.FAIL_ON_SELF_REFERENCES, false);
+
+        return mapper;
+    }
+
+    // Whether a subclass overrides getConvertJsonValueNodeToDataModelRowValue, checked once per class.
+    private static final ClassValue<Boolean> NODE_CONVERSION_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getConvertJsonValueNodeToDataModelRowValue", JsonNode.class)
+                        .getDeclaringClass() != DataConverterDefault.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
     /**
      * Converts a JsonNode value to a string representation suitable for a DataModel row. 
      * This method specifically handles date-time values formatted in ISO-8601 format 
@@ -86,22 +173,72 @@ public class DataConverterDefault implements DataConverter{
     @Override
     public String getConvertJsonValueNodeToDataModelRowValue(JsonNode valueNode) {
         if (valueNode.isTextual()) {
-            String text = valueNode.asText();
-            // Check for ISO date-time format
-            if (text.matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}Z")) {
-                ZonedDateTime zonedDateTime = ZonedDateTime.parse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
-                String timeZoneId = getTimeZoneId();
-                if (timeZoneId != null && !timeZoneId.isEmpty()) {
-                    zonedDateTime = zonedDateTime.withZoneSameInstant(ZoneId.of(timeZoneId));
-                }
-                return zonedDateTime.format(DateTimeFormatter.ofPattern(getDateFormat()));
-            }
-            return text;
+            return getConvertJsonTextToDataModelRowValue(valueNode.asText());
         } else {
             return valueNode.asText();
         }
     }
 
+    private String getConvertJsonTextToDataModelRowValue(String text) {
+        // Check for ISO date-time format
+        if (text.length() == 24 && text.charAt(10) == 'T' && ISO_DATE_TIME.matcher(text).matches()) {
+            ZonedDateTime zonedDateTime = ZonedDateTime.parse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+            Settings current = getSettings();
+            if (current.zoneId != null) {
+                zonedDateTime = zonedDateTime.withZoneSameInstant(current.zoneId);
+            }
+            return zonedDateTime.format(current.formatter);
+        }
+        return text;
+    }
+
+    /**
+     * Converts the scalar JSON value at the current token of the parser to a string representation suitable
+     * for a DataModel row, without creating a {@link JsonNode}. The result is the same as that of
+     * {@link #getConvertJsonValueNodeToDataModelRowValue(JsonNode)}: strings are converted like textual nodes,
+     * and numbers and booleans are returned as the text of the node that Jackson would create for them.
+     *
+     * <p>If a subclass overrides {@link #getConvertJsonValueNodeToDataModelRowValue(JsonNode)}, the value is
+     * read as a node and passed to that method instead.</p>
+     *
+     * @param jp the parser positioned at a scalar value token
+     * @return a string representation of the value, formatted for inclusion in a DataModel row
+     * @throws IOException if the value cannot be read
+     */
+    @Override
+    public String getConvertJsonTokenToDataModelRowValue(JsonParser jp) throws IOException {
+        if (!NODE_CONVERSION_OVERRIDDEN.get(getClass())) {
+            switch (jp.currentToken()) {
+                case VALUE_STRING:
+                    return getConvertJsonTextToDataModelRowValue(jp.getText());
+                case VALUE_TRUE:
+                    return "true";
+                case VALUE_FALSE:
+                    return "false";
+                case VALUE_NUMBER_INT:
+                    // Like IntNode, LongNode and BigIntegerNode, the text of the value rather than of the input.
+                    return jp.getNumberValue().toString();
+                case VALUE_NUMBER_FLOAT:
+                    if (jp.getCodec() instanceof ObjectMapper
+                            && ((ObjectMapper) jp.getCodec()).isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+                        break;
+                    }
+                    // Like DoubleNode and FloatNode.
+                    if (jp.getNumberType() == JsonParser.NumberType.DOUBLE) {
+                        return Double.toString(jp.getDoubleValue());
+                    }
+                    if (jp.getNumberType() == JsonParser.NumberType.FLOAT) {
+                        return Float.toString(jp.getFloatValue());
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        JsonNode valueNode = jp.readValueAsTree();
+        return getConvertJsonValueNodeToDataModelRowValue(valueNode);
+    }
+
     /**
      * Converts the rows of a DataModel object into a JSON array using a customized {@link ObjectMapper}. 
      * This method focuses on transforming the DataModel's row data into a JSON array representation, 
@@ -148,6 +285,9 @@ public class DataConverterDefault implements DataConverter{
      * data exchange, storage, or further processing. It encapsulates custom serialization logic, ensuring
      * that the DataModel's data is accurately and efficiently represented in JSON.</p>
      *
+     * <p>If the {@link DataModelFormat#ATTRIBUTE} attribute of the serialization is {@link DataModelFormat#COLUMNAR},
+     * the DataModel is written as an object with the column names and an array of row value arrays instead.</p>
+     *
      * @param dataModel The DataModel instance to be serialized.
      * @param gen The JsonGenerator used for writing JSON content.
      * @param serializers Provider that can be used to get serializers for serializing Objects value contains, if any.
@@ -156,8 +296,12 @@ public class DataConverterDefault implements DataConverter{
     @Override
     public void serialize(DataModel dataModel, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         ObjectMapper mapper = getObjectMapperForConvertDataModelToJson(); // 그대로 유지
+        if (serializers != null && serializers.getAttribute(DataModelFormat.ATTRIBUTE) == DataModelFormat.COLUMNAR) {
+            serializeColumnar(dataModel, gen, mapper);
+            return;
+        }
         gen.writeStartArray();
-        for (HashMap<String, Object> row : dataModel.getRows()) {
+        for (HashMap<String, Object> row : dataModel.getUnmodifiableRows()) {
             gen.writeStartObject();
             for (Map.Entry<String, Object> entry : row.entrySet()) {
                 String key = entry.getKey();
@@ -175,6 +319,37 @@ public class DataConverterDefault implements DataConverter{
         }
         gen.writeEndArray();
     }
+
+    /**
+     * Writes the DataModel in the {@link DataModelFormat#COLUMNAR} format: the column names once, then the
+     * values of every row as an array in the order of the columns.
+     */
+    private void serializeColumnar(DataModel dataModel, JsonGenerator gen, ObjectMapper mapper) throws IOException {
+        List<String> columns = dataModel.getColumns();
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("cols");
+        for (String column : columns) {
+            gen.writeString(column);
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("rows");
+        for (HashMap<String, Object> row : dataModel.getUnmodifiableRows()) {
+            gen.writeStartArray();
+            for (String column : columns) {
+                Object value = row.get(column);
+                if (value == null) {
+                    gen.writeNull();
+                } else if (value instanceof String) {
+                    gen.writeString((String) value);
+                } else {
+                    mapper.writeValue(gen, value);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
     
     /**
      * Provides a customized {@link ObjectMapper} for serializing and deserializing data models to and from JSON.
@@ -196,18 +371,20 @@ public class DataConverterDefault implements DataConverter{
      * <p>This customized ObjectMapper ensures consistent and efficient handling of date-time formats 
      * and provides resilience against varying JSON structures, essential for robust data model processing.</p>
      *
+     * <p>The mapper is built once for the current {@link #getDateFormat()} and {@link #getTimeZoneId()} and
+     * shared by later calls, so it must not be reconfigured; use {@link ObjectMapper#copy()} for a mapper with
+     * different settings.</p>
+     *
      * @return a tailored {@link ObjectMapper} instance for robust serialization and deserialization of data models
      */
     @Override
     public ObjectMapper getObjectMapperForConvertDataModelToJson() {
-        ObjectMapper mapper = new ObjectMapper();
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(getDateFormat()));
-        module.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(getDateFormat()));
-        mapper.registerModule(module);
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        mapper.configure(SerializationFeature.FAIL_ON_SELF_REFERENCES, false);
-
+        Settings current = getSettings();
+        ObjectMapper mapper = current.dataModelToJsonMapper;
+        if (mapper == null) {
+            mapper = createObjectMapper(current);
+            current.dataModelToJsonMapper = mapper;
+        }
         return mapper;
     }
 
@@ -264,18 +441,20 @@ public class DataConverterDefault implements DataConverter{
      * <p>This configured ObjectMapper is crucial for transforming JSON data contained in DataModel rows 
      * into corresponding Java entity objects, supporting the flexibility and complexity required in data conversion.</p>
      *
+     * <p>The mapper is built once for the current {@link #getDateFormat()} and {@link #getTimeZoneId()} and
+     * shared by later calls, so it must not be reconfigured; use {@link ObjectMapper#copy()} for a mapper with
+     * different settings.</p>
+     *
      * @return a configured {@link ObjectMapper} for DataModel entity conversion
      */
     @Override
     public ObjectMapper getObjectMapperForConvertDataModelToEntities() {
-        ObjectMapper mapper = new ObjectMapper();
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(getDateFormat()));
-        module.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(getDateFormat()));
-        mapper.registerModule(module);
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        mapper.configure(SerializationFeature.FAIL_ON_SELF_REFERENCES, false);
-
+        Settings current = getSettings();
+        ObjectMapper mapper = current.dataModelToEntitiesMapper;
+        if (mapper == null) {
+            mapper = createObjectMapper(current);
+            current.dataModelToEntitiesMapper = mapper;
+        }
         return mapper;
     }
 
@@ -300,18 +479,20 @@ public class DataConverterDefault implements DataConverter{
      * suitable for inclusion in DataModel rows, ensuring that data is properly serialized and deserialized 
      * according to the defined configurations.</p>
      *
+     * <p>The mapper is built once for the current {@link #getDateFormat()} and {@link #getTimeZoneId()} and
+     * shared by later calls, so it must not be reconfigured; use {@link ObjectMapper#copy()} for a mapper with
+     * different settings.</p>
+     *
      * @return a configured {@link ObjectMapper} for converting entities to DataModel format
      */
     @Override
     public ObjectMapper getObjectMapperForConvertEntitiesToDataModel() {
-        ObjectMapper mapper = new ObjectMapper();
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(getDateFormat()));
-        module.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(getDateFormat()));
-        mapper.registerModule(module);
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        mapper.configure(SerializationFeature.FAIL_ON_SELF_REFERENCES, false);
-
+        Settings current = getSettings();
+        ObjectMapper mapper = current.entitiesToDataModelMapper;
+        if (mapper == null) {
+            mapper = createObjectMapper(current);
+            current.entitiesToDataModelMapper = mapper;
+        }
         return mapper;
     }
 
@@ -343,20 +524,9 @@ public class DataConverterDefault implements DataConverter{
             return value;
         }
         else if (value.getClass() == LocalDateTime.class) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(getDateFormat());
-            return ((LocalDateTime)value).format(formatter);
+            return ((LocalDateTime)value).format(getSettings().formatter);
         }
-        List<Class<?>> primitiveWrappers = Arrays.asList(
-            Boolean.class,
-            Character.class,
-            Byte.class,
-            Short.class, 
-            Integer.class,
-            Long.class,
-            Float.class,
-            Double.class
-        );
-        if (primitiveWrappers.contains(value.getClass())) {
+        if (PRIMITIVE_WRAPPERS.contains(value.getClass())) {
             return value.toString();
         } else {
             String valueToString = value.toString();
@@ -6,13 +6,20 @@ package io.github.hison.data.converter;
  */
 public class DataConverterFactory {
 
-    private static DataConverter customConverter;
+    private static final DataConverter DEFAULT_CONVERTER = new DataConverterDefault();
+
+    private static volatile DataConverter customConverter;
     
+    /**
+     * Returns the custom converter if one is set, otherwise the shared default converter, whose date formatter
+     * and ObjectMappers are built once and reused.
+     */
     public static DataConverter getConverter() {
-        if (customConverter != null) {
-            return customConverter;
+        DataConverter converter = customConverter;
+        if (converter != null) {
+            return converter;
         }
-        return new DataConverterDefault();
+        return DEFAULT_CONVERTER;
     }
 
     public static void setCustomConverter(DataConverter converter) {
@@ -0,0 +1,155 @@
+package io.github.hison.data.model;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Describes an aggregate function computed per group by {@link GroupBy#aggregate(Aggregate...)}.
+ *
+ * <p>Aggregates are created with the static factory methods and may be renamed with {@link #as(String)}.
+ * Numeric aggregates accept numbers as well as numeric strings, which is how the
+ * {@link io.github.hison.data.converter.DataConverter} stores numbers in a {@link DataModel}.
+ * Null values are ignored by every aggregate except {@link #count()}.</p>
+ *
+ * <ul>
+ *     <li>{@link #count()} counts the rows of the group. Its default column name is {@code count}.</li>
+ *     <li>{@link #count(String)} counts the non-null values of a column. Its default column name is {@code count_<column>}.</li>
+ *     <li>{@link #sum(String)} sums the values of a column. Integral values are summed exactly.
+ *         Its default column name is {@code sum_<column>}.</li>
+ *     <li>{@link #avg(String)} averages the values of a column. Its default column name is {@code avg_<column>}.</li>
+ *     <li>{@link #min(String)} and {@link #max(String)} return the smallest or largest value of a column. Values are
+ *         compared as numbers if all of them are numeric, otherwise in their natural order. The original value is
+ *         returned unchanged. Their default column names are {@code min_<column>} and {@code max_<column>}.</li>
+ * </ul>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * DataModel summary = dataModel.groupBy("category")
+ *         .aggregate(Aggregate.count(), Aggregate.sum("amount").as("total"), Aggregate.avg("amount"));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class Aggregate {
+    enum Type {
+        COUNT, SUM, AVG, MIN, MAX
+    }
+
+    private final Type type;
+    private final String column;
+    private final String name;
+
+    private Aggregate(Type type, String column, String name) {
+        this.type = type;
+        this.column = column;
+        this.name = name;
+    }
+
+    private static Aggregate of(Type type, String column) {
+        if (column == null) {
+            throw new DataException("The column of an aggregate must not be null.");
+        }
+        return new Aggregate(type, column, type.name().toLowerCase() + "_" + column);
+    }
+
+    /**
+     * Counts the rows of each group.
+     *
+     * @return a new count aggregate named {@code count}
+     */
+    public static Aggregate count() {
+        return new Aggregate(Type.COUNT, null, "count");
+    }
+
+    /**
+     * Counts the non-null values of a column in each group.
+     *
+     * @param column the column whose values are counted
+     * @return a new count aggregate named {@code count_<column>}
+     */
+    public static Aggregate count(String column) {
+        return of(Type.COUNT, column);
+    }
+
+    /**
+     * Sums the values of a column in each group.
+     *
+     * @param column the column whose values are summed
+     * @return a new sum aggregate named {@code sum_<column>}
+     */
+    public static Aggregate sum(String column) {
+        return of(Type.SUM, column);
+    }
+
+    /**
+     * Averages the values of a column in each group.
+     *
+     * @param column the column whose values are averaged
+     * @return a new average aggregate named {@code avg_<column>}
+     */
+    public static Aggregate avg(String column) {
+        return of(Type.AVG, column);
+    }
+
+    /**
+     * Finds the smallest value of a column in each group.
+     *
+     * @param column the column whose smallest value is returned
+     * @return a new minimum aggregate named {@code min_<column>}
+     */
+    public static Aggregate min(String column) {
+        return of(Type.MIN, column);
+    }
+
+    /**
+     * Finds the largest value of a column in each group.
+     *
+     * @param column the column whose largest value is returned
+     * @return a new maximum aggregate named {@code max_<column>}
+     */
+    public static Aggregate max(String column) {
+        return of(Type.MAX, column);
+    }
+
+    /**
+     * Returns a copy of this aggregate with a different result column name.
+     *
+     * @param name the name of the result column
+     * @return a new aggregate with the given name
+     */
+    public Aggregate as(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new DataException("The name of an aggregate must not be empty.");
+        }
+        return new Aggregate(type, column, name);
+    }
+
+    /**
+     * Returns the name of the result column.
+     *
+     * @return the result column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the source column, or null for {@link #count()}.
+     *
+     * @return the source column
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Checks whether the aggregate needs the numeric interpretation of its values.
+     */
+    boolean isNumeric() {
+        return type == Type.SUM || type == Type.AVG || type == Type.MIN || type == Type.MAX;
+    }
+}
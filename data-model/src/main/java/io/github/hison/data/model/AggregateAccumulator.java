@@ -0,0 +1,165 @@
+package io.github.hison.data.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Holds the state of one {@link Aggregate} for one group, supporting the removal of values as well as
+ * their addition, for {@link AggregateView}.
+ *
+ * <p>Counts, sums and averages are updated in constant time. Minimum and maximum keep a sorted multiset of
+ * the values, so that removing the current minimum or maximum does not require a rescan. Numeric values that
+ * are equal as numbers, like "1" and "1.0", are counted separately, so the value reported is always one that is
+ * still in the group, the first one added among those present. Values of a sum or
+ * average that are not numeric are counted, and the result of the group fails until they are removed.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class AggregateAccumulator {
+    private final Aggregate aggregate;
+    private long count;
+    private long longSum;
+    private double doubleSum;
+    private boolean fractional;
+    private long invalidCount;
+    private TreeMap<Double, LinkedHashMap<Object, long[]>> numericValues;
+    private TreeMap<Object, long[]> naturalValues;
+    private long nonNumericCount;
+
+    AggregateAccumulator(Aggregate aggregate) {
+        this.aggregate = aggregate;
+        if (aggregate.getType() == Aggregate.Type.MIN || aggregate.getType() == Aggregate.Type.MAX) {
+            numericValues = new TreeMap<>();
+            naturalValues = new TreeMap<>((v1, v2) -> ValueComparator.compare(v1, v2, false));
+        }
+    }
+
+    /**
+     * Adds ({@code sign} 1) or removes ({@code sign} -1) one row of the group.
+     *
+     * @param value the value of the aggregate column in this row (ignored for {@link Aggregate#count()})
+     * @param number the numeric interpretation of the value, only read if {@code isNumber} is true
+     * @param isNumber whether the value could be parsed as a number
+     */
+    void apply(Object value, NumericValue number, boolean isNumber, int sign) {
+        if (aggregate.getColumn() == null) {
+            count += sign;
+            return;
+        }
+        if (value == null) {
+            return;
+        }
+        count += sign;
+        switch (aggregate.getType()) {
+            case SUM:
+            case AVG:
+                if (!isNumber) {
+                    invalidCount += sign;
+                } else {
+                    applySum(number, sign);
+                }
+                break;
+            case MIN:
+            case MAX:
+                applyBest(value, number, isNumber, sign);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void applySum(NumericValue number, int sign) {
+        if (!fractional && number.isIntegral()) {
+            long v = sign * number.longValue();
+            long result = longSum + v;
+            if (((longSum ^ result) & (v ^ result)) >= 0 && v != Long.MIN_VALUE) {
+                longSum = result;
+                return;
+            }
+        }
+        if (!fractional) {
+            fractional = true;
+            doubleSum = longSum;
+        }
+        doubleSum += sign * number.doubleValue();
+    }
+
+    private void applyBest(Object value, NumericValue number, boolean isNumber, int sign) {
+        long[] natural = naturalValues.get(value);
+        if (sign > 0) {
+            if (natural == null) {
+                naturalValues.put(value, new long[] { 1 });
+            } else {
+                natural[0]++;
+            }
+        } else if (natural != null && --natural[0] == 0) {
+            naturalValues.remove(value);
+        }
+
+        if (!isNumber) {
+            nonNumericCount += sign;
+            return;
+        }
+        Double key = number.doubleValue();
+        LinkedHashMap<Object, long[]> values = numericValues.get(key);
+        if (sign > 0) {
+            if (values == null) {
+                values = new LinkedHashMap<>(2);
+                numericValues.put(key, values);
+            }
+            long[] numeric = values.get(value);
+            if (numeric == null) {
+                values.put(value, new long[] { 1 });
+            } else {
+                numeric[0]++;
+            }
+        } else if (values != null) {
+            long[] numeric = values.get(value);
+            if (numeric != null && --numeric[0] == 0) {
+                values.remove(value);
+                if (values.isEmpty()) {
+                    numericValues.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the result of the group. Counts, sums and averages are returned as {@link Long} or {@link Double},
+     * minimum and maximum as the original value.
+     *
+     * @throws DataException if a value of a sum or average cannot be converted to a number
+     */
+    Object getResult() {
+        switch (aggregate.getType()) {
+            case COUNT:
+                return count;
+            case SUM:
+            case AVG:
+                if (invalidCount > 0) {
+                    throw new DataException("Cannot convert string to number. Column: " + aggregate.getColumn());
+                }
+                if (count == 0) return null;
+                if (aggregate.getType() == Aggregate.Type.SUM) {
+                    return fractional ? (Object) doubleSum : (Object) longSum;
+                }
+                return (fractional ? doubleSum : (double) longSum) / count;
+            case MIN:
+            case MAX:
+                if (count == 0) return null;
+                boolean min = aggregate.getType() == Aggregate.Type.MIN;
+                if (nonNumericCount == 0) {
+                    Map.Entry<Double, LinkedHashMap<Object, long[]>> entry = min
+                            ? numericValues.firstEntry() : numericValues.lastEntry();
+                    return entry.getValue().keySet().iterator().next();
+                }
+                return min ? naturalValues.firstKey() : naturalValues.lastKey();
+            default:
+                return null;
+        }
+    }
+}
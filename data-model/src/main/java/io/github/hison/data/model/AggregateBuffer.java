@@ -0,0 +1,168 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Holds the running state of one {@link Aggregate} for many groups at once.
+ *
+ * <p>The state is kept in primitive arrays indexed by group id, so accumulating a value does not allocate.
+ * Integral values are summed exactly into a {@code long}; the sum switches to {@code double} only if a
+ * fractional value is seen or the {@code long} overflows.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class AggregateBuffer {
+    private final Aggregate aggregate;
+    private long[] counts;
+    private long[] longSums;
+    private double[] doubleSums;
+    private boolean[] fractional;
+    private Object[] numericBest;
+    private double[] numericBestValues;
+    private Object[] naturalBest;
+    private boolean[] nonNumeric;
+
+    AggregateBuffer(Aggregate aggregate, int capacity) {
+        this.aggregate = aggregate;
+        capacity = Math.max(capacity, 8);
+        counts = new long[capacity];
+        switch (aggregate.getType()) {
+            case SUM:
+            case AVG:
+                longSums = new long[capacity];
+                doubleSums = new double[capacity];
+                fractional = new boolean[capacity];
+                break;
+            case MIN:
+            case MAX:
+                numericBest = new Object[capacity];
+                numericBestValues = new double[capacity];
+                naturalBest = new Object[capacity];
+                nonNumeric = new boolean[capacity];
+                break;
+            default:
+                break;
+        }
+    }
+
+    Aggregate getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Makes sure the buffer can hold the given number of groups.
+     */
+    void ensureCapacity(int groups) {
+        if (groups <= counts.length) {
+            return;
+        }
+        int capacity = Math.max(groups, counts.length << 1);
+        counts = Arrays.copyOf(counts, capacity);
+        if (longSums != null) {
+            longSums = Arrays.copyOf(longSums, capacity);
+            doubleSums = Arrays.copyOf(doubleSums, capacity);
+            fractional = Arrays.copyOf(fractional, capacity);
+        }
+        if (numericBest != null) {
+            numericBest = Arrays.copyOf(numericBest, capacity);
+            numericBestValues = Arrays.copyOf(numericBestValues, capacity);
+            naturalBest = Arrays.copyOf(naturalBest, capacity);
+            nonNumeric = Arrays.copyOf(nonNumeric, capacity);
+        }
+    }
+
+    /**
+     * Accumulates one row of a group.
+     *
+     * @param group the group id
+     * @param value the value of the aggregate column in this row (ignored for {@link Aggregate#count()})
+     * @param number the numeric interpretation of the value, only read if {@code isNumber} is true
+     * @param isNumber whether the value could be parsed as a number
+     */
+    void add(int group, Object value, NumericValue number, boolean isNumber) {
+        if (aggregate.getColumn() == null) {
+            counts[group]++;
+            return;
+        }
+        if (value == null) {
+            return;
+        }
+        counts[group]++;
+        switch (aggregate.getType()) {
+            case SUM:
+            case AVG:
+                if (!isNumber) {
+                    throw new DataException("Cannot convert string to number. Column: " + aggregate.getColumn());
+                }
+                addSum(group, number);
+                break;
+            case MIN:
+            case MAX:
+                addBest(group, value, number, isNumber, aggregate.getType() == Aggregate.Type.MIN ? 1 : -1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addSum(int group, NumericValue number) {
+        if (number.isIntegral() && !fractional[group]) {
+            long sum = longSums[group];
+            long v = number.longValue();
+            long result = sum + v;
+            if (((sum ^ result) & (v ^ result)) >= 0) {
+                longSums[group] = result;
+                return;
+            }
+        }
+        if (!fractional[group]) {
+            fractional[group] = true;
+            doubleSums[group] = longSums[group];
+        }
+        doubleSums[group] += number.doubleValue();
+    }
+
+    private void addBest(int group, Object value, NumericValue number, boolean isNumber, int sign) {
+        if (isNumber && !nonNumeric[group]) {
+            double v = number.doubleValue();
+            if (numericBest[group] == null || sign * Double.compare(numericBestValues[group], v) > 0) {
+                numericBest[group] = value;
+                numericBestValues[group] = v;
+            }
+        } else {
+            nonNumeric[group] = true;
+        }
+        if (naturalBest[group] == null || sign * ValueComparator.compare(naturalBest[group], value, false) > 0) {
+            naturalBest[group] = value;
+        }
+    }
+
+    /**
+     * Returns the result of a group. Counts, sums and averages are returned as {@link Long} or {@link Double},
+     * minimum and maximum as the original value.
+     */
+    Object getResult(int group) {
+        if (group >= counts.length) {
+            return aggregate.getType() == Aggregate.Type.COUNT ? Long.valueOf(0) : null;
+        }
+        switch (aggregate.getType()) {
+            case COUNT:
+                return counts[group];
+            case SUM:
+                if (counts[group] == 0) return null;
+                return fractional[group] ? (Object) doubleSums[group] : (Object) longSums[group];
+            case AVG:
+                if (counts[group] == 0) return null;
+                double sum = fractional[group] ? doubleSums[group] : (double) longSums[group];
+                return sum / counts[group];
+            case MIN:
+            case MAX:
+                return nonNumeric[group] ? naturalBest[group] : numericBest[group];
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import io.github.hison.data.converter.DataConverter;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A grouped aggregation of a {@link DataModel} that is kept up to date as the DataModel changes,
+ * created by {@link DataModel#createAggregateView(List, Aggregate...)}.
+ *
+ * <p>The result is the same as {@link GroupBy#aggregate(Aggregate...)}, but the view is registered with its
+ * DataModel and only applies the rows that are inserted, updated or removed: an update moves the previous
+ * values of the row out of their group and the new values into theirs. Counts, sums and averages are updated
+ * in constant time, minimum and maximum in logarithmic time. Reading the view costs time proportional to the
+ * number of groups.</p>
+ *
+ * <p>Groups are in order of first appearance, and a group disappears when its last row is removed. Without
+ * group columns the view always contains exactly one row. Sums and averages of fractional values are
+ * maintained in {@code double} arithmetic, so removals may introduce rounding differences compared to
+ * recomputing them.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * AggregateView totals = dataModel.createAggregateView("category", Aggregate.count(), Aggregate.sum("amount"));
+ * dataModel.addRow(newRow);
+ * DataModel result = totals.toDataModel();
+ * </pre>
+ *
+ * <p><b>Note:</b> Like the DataModel, a view is not thread-safe. Call {@link #close()} when the view is no
+ * longer needed, so that the DataModel stops maintaining it.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class AggregateView {
+    private final DataModel source;
+    private final String[] columns;
+    private final Aggregate[] aggregates;
+    private final LinkedHashMap<List<Object>, Group> groups = new LinkedHashMap<>();
+    private final HashSet<String> usedColumns = new HashSet<>();
+    private final NumericValue number = new NumericValue();
+
+    private static final class Group {
+        private final List<Object> key;
+        private final AggregateAccumulator[] accumulators;
+        private long rowCount;
+
+        private Group(List<Object> key, Aggregate[] aggregates) {
+            this.key = key;
+            this.accumulators = new AggregateAccumulator[aggregates.length];
+            for (int i = 0; i < aggregates.length; i++) {
+                accumulators[i] = new AggregateAccumulator(aggregates[i]);
+            }
+        }
+    }
+
+    private final RowListener listener = new RowListener() {
+        @Override
+        public void rowInserted(int index, HashMap<String, Object> row) {
+            apply(row, null, null, 1);
+        }
+
+        @Override
+        public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+            if (!usedColumns.contains(column)) {
+                return;
+            }
+            apply(row, column, oldValue, -1);
+            apply(row, null, null, 1);
+        }
+
+        @Override
+        public void rowRemoved(int index, HashMap<String, Object> row) {
+            apply(row, null, null, -1);
+        }
+
+        @Override
+        public void rowsReset() {
+            rebuild();
+        }
+    };
+
+    AggregateView(DataModel source, String[] columns, Aggregate[] aggregates) {
+        for (String column : columns) {
+            if (!source.hasColumn(column)) {
+                throw new DataException("Column " + column + " does not exist.");
+            }
+        }
+        if (new LinkedHashSet<>(Arrays.asList(columns)).size() != columns.length) {
+            throw new DataException("Duplicate group column.");
+        }
+        List<String> names = new ArrayList<>(Arrays.asList(columns));
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate.getColumn() != null && !source.hasColumn(aggregate.getColumn())) {
+                throw new DataException("Column " + aggregate.getColumn() + " does not exist.");
+            }
+            if (names.contains(aggregate.getName())) {
+                throw new DataException("Duplicate column name: " + aggregate.getName());
+            }
+            names.add(aggregate.getName());
+        }
+        names = new ArrayList<>(Arrays.asList(columns));
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate.getColumn() != null) {
+                names.add(aggregate.getColumn());
+            }
+        }
+        usedColumns.addAll(names);
+        this.source = source;
+        this.columns = columns;
+        this.aggregates = aggregates;
+        rebuild();
+        source.addRowListener(listener);
+    }
+
+    /**
+     * Reads a value of the row, or the previous value of the changed column.
+     */
+    private static Object get(HashMap<String, Object> row, String column, String changedColumn, Object oldValue) {
+        return column.equals(changedColumn) ? oldValue : row.get(column);
+    }
+
+    /**
+     * Adds ({@code sign} 1) or removes ({@code sign} -1) a row. If {@code changedColumn} is not null,
+     * the row is applied with {@code oldValue} in place of its current value of that column.
+     */
+    private void apply(HashMap<String, Object> row, String changedColumn, Object oldValue, int sign) {
+        Object[] key = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            key[i] = get(row, columns[i], changedColumn, oldValue);
+        }
+        List<Object> groupKey = Arrays.asList(key);
+        Group group = groups.get(groupKey);
+        if (group == null) {
+            if (sign < 0) {
+                return;
+            }
+            group = new Group(groupKey, aggregates);
+            groups.put(groupKey, group);
+        }
+        group.rowCount += sign;
+        for (int i = 0; i < aggregates.length; i++) {
+            String column = aggregates[i].getColumn();
+            Object value = column == null ? null : get(row, column, changedColumn, oldValue);
+            boolean isNumber = value != null && aggregates[i].getType() != Aggregate.Type.COUNT && number.parse(value);
+            group.accumulators[i].apply(value, number, isNumber, sign);
+        }
+        if (group.rowCount == 0 && columns.length > 0) {
+            groups.remove(groupKey);
+        }
+    }
+
+    private void rebuild() {
+        groups.clear();
+        if (columns.length == 0) {
+            List<Object> key = Arrays.asList(new Object[0]);
+            groups.put(key, new Group(key, aggregates));
+        }
+        for (HashMap<String, Object> row : source.getRowsInternal()) {
+            apply(row, null, null, 1);
+        }
+    }
+
+    /**
+     * @return the number of groups in the view
+     */
+    public int getRowCount() {
+        return groups.size();
+    }
+
+    /**
+     * Returns the current result as a new {@link DataModel}, with the group columns followed by the aggregate
+     * columns, like {@link GroupBy#aggregate(Aggregate...)}.
+     *
+     * @return a new DataModel with one row per group
+     * @throws DataException if a value of a sum or average cannot be converted to a number
+     */
+    public DataModel toDataModel() {
+        DataConverter converter = DataConverterFactory.getConverter();
+        List<String> outputColumns = new ArrayList<>(Arrays.asList(columns));
+        for (Aggregate aggregate : aggregates) {
+            outputColumns.add(aggregate.getName());
+        }
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(groups.size());
+        for (Group group : groups.values()) {
+            HashMap<String, Object> newRow = new HashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                newRow.put(columns[i], group.key.get(i));
+            }
+            for (int i = 0; i < aggregates.length; i++) {
+                Object result = group.accumulators[i].getResult();
+                Aggregate.Type type = aggregates[i].getType();
+                if (type != Aggregate.Type.MIN && type != Aggregate.Type.MAX) {
+                    result = converter.getConvertValueToDataModelRowValue(result);
+                }
+                newRow.put(aggregates[i].getName(), result);
+            }
+            newRows.add(newRow);
+        }
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+
+    /**
+     * Stops maintaining the view. The view keeps its last content.
+     */
+    public void close() {
+        source.removeRowListener(listener);
+    }
+}
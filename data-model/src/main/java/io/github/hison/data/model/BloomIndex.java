@@ -0,0 +1,89 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+import java.util.List;
+
+import io.github.hison.data.sketch.BloomFilter;
+
+/**
+ * A {@link BloomFilter} of the non-null values of one column, maintained from the row events of a
+ * {@link DataModel}.
+ *
+ * <p>Inserted and updated values are added to the filter as they arrive. A Bloom filter cannot forget values,
+ * so removed and overwritten values only make false positives more likely; the filter is rebuilt from the rows
+ * once such stale values outnumber half of the rows, once more values have been added than it was sized for,
+ * or after {@link RowListener#rowsReset()}. It is sized for twice the number of rows at the time it is built,
+ * so that appending rows does not cause frequent rebuilds.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class BloomIndex implements RowListener {
+    private static final int MIN_CAPACITY = 1024;
+
+    private final DataModel model;
+    private final String column;
+    private final double falsePositiveRate;
+    private BloomFilter filter;
+    private long staleValues;
+
+    BloomIndex(DataModel model, String column, double falsePositiveRate) {
+        this.model = model;
+        this.column = column;
+        this.falsePositiveRate = falsePositiveRate;
+        rebuild();
+    }
+
+    double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Returns whether the column may contain the non-null value. False means it certainly does not.
+     */
+    boolean mightContain(Object value) {
+        if (filter == null || filter.getInsertions() > filter.getExpectedInsertions()
+                || staleValues > model.getRowCount() / 2) {
+            rebuild();
+        }
+        return filter.mightContain(value);
+    }
+
+    private void rebuild() {
+        List<HashMap<String, Object>> rows = model.getRowsInternal();
+        filter = new BloomFilter(Math.max(MIN_CAPACITY, 2L * rows.size()), falsePositiveRate);
+        for (HashMap<String, Object> row : rows) {
+            filter.add(row.get(column));
+        }
+        staleValues = 0;
+    }
+
+    @Override
+    public void rowInserted(int index, HashMap<String, Object> row) {
+        if (filter != null) {
+            filter.add(row.get(column));
+        }
+    }
+
+    @Override
+    public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        if (filter != null && this.column.equals(column)) {
+            filter.add(row.get(column));
+            if (oldValue != null) {
+                staleValues++;
+            }
+        }
+    }
+
+    @Override
+    public void rowRemoved(int index, HashMap<String, Object> row) {
+        if (filter != null && row.get(column) != null) {
+            staleValues++;
+        }
+    }
+
+    @Override
+    public void rowsReset() {
+        filter = null;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tracks the inserted, updated and deleted rows of a {@link DataModel} from its row events.
+ *
+ * <p>Rows are identified by instance, so only the changed rows are recorded: an updated row keeps the original
+ * values of the changed cells only, and a deleted row keeps its values when it was removed. The unchanged rows
+ * cost nothing, and the changes are collected in time proportional to the number of changed rows.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class ChangeTracker implements RowListener {
+    private final DataModel source;
+    private final IdentityHashMap<HashMap<String, Object>, Change> changes = new IdentityHashMap<>();
+    private final List<Change> deleted = new ArrayList<>();
+    private long nextSequence;
+
+    private static final class Change {
+        private final long sequence;
+        private RowState state;
+        private HashMap<String, Object> row;
+        private final HashMap<String, Object> originalValues = new HashMap<>();
+
+        private Change(long sequence, RowState state, HashMap<String, Object> row) {
+            this.sequence = sequence;
+            this.state = state;
+            this.row = row;
+        }
+    }
+
+    ChangeTracker(DataModel source) {
+        this.source = source;
+    }
+
+    @Override
+    public void rowInserted(int index, HashMap<String, Object> row) {
+        changes.put(row, new Change(nextSequence++, RowState.INSERTED, row));
+    }
+
+    @Override
+    public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        Change change = changes.get(row);
+        if (change == null) {
+            if (Objects.equals(oldValue, row.get(column))) {
+                return;
+            }
+            change = new Change(nextSequence++, RowState.UPDATED, row);
+            changes.put(row, change);
+        }
+        if (change.state == RowState.INSERTED) {
+            return;
+        }
+        if (!change.originalValues.containsKey(column)) {
+            if (!Objects.equals(oldValue, row.get(column))) {
+                change.originalValues.put(column, oldValue);
+            }
+        } else if (Objects.equals(change.originalValues.get(column), row.get(column))) {
+            // The cell is back to its original value.
+            change.originalValues.remove(column);
+            if (change.originalValues.isEmpty()) {
+                changes.remove(row);
+            }
+        }
+    }
+
+    @Override
+    public void rowRemoved(int index, HashMap<String, Object> row) {
+        Change change = changes.remove(row);
+        if (change != null && change.state == RowState.INSERTED) {
+            return;
+        }
+        if (change == null) {
+            change = new Change(nextSequence++, RowState.DELETED, row);
+        }
+        change.state = RowState.DELETED;
+        change.row = new HashMap<String, Object>(row);
+        deleted.add(change);
+    }
+
+    @Override
+    public void rowsReset() {
+        // Rows are not removed by a reset, but removed columns no longer have original values.
+        List<String> columns = source.getColumns();
+        Iterator<Map.Entry<HashMap<String, Object>, Change>> iterator = changes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Change change = iterator.next().getValue();
+            if (change.state == RowState.UPDATED) {
+                change.originalValues.keySet().retainAll(columns);
+                if (change.originalValues.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    DataChanges getChanges() {
+        List<Change> current = new ArrayList<>(changes.values());
+        current.sort(Comparator.comparingLong(change -> change.sequence));
+        List<RowChange> inserted = new ArrayList<>();
+        List<RowChange> updated = new ArrayList<>();
+        for (Change change : current) {
+            RowChange rowChange = new RowChange(change.state, new HashMap<String, Object>(change.row),
+                    new HashMap<String, Object>(change.originalValues));
+            if (change.state == RowState.INSERTED) {
+                inserted.add(rowChange);
+            } else {
+                updated.add(rowChange);
+            }
+        }
+        List<RowChange> deletedRows = new ArrayList<>(deleted.size());
+        for (Change change : deleted) {
+            deletedRows.add(new RowChange(RowState.DELETED, change.row, new HashMap<String, Object>(change.originalValues)));
+        }
+        return new DataChanges(inserted, updated, deletedRows);
+    }
+
+    void acceptChanges() {
+        changes.clear();
+        deleted.clear();
+    }
+}
@@ -0,0 +1,319 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.github.hison.data.condition.NormalizedMatch;
+import io.github.hison.data.condition.Range;
+import io.github.hison.data.condition.TextMatch;
+import io.github.hison.data.condition.ValueMatcher;
+import io.github.hison.data.sketch.HyperLogLog;
+
+/**
+ * Maintains the statistics of the columns of a {@link DataModel} from its row events.
+ *
+ * <p>A column is tracked from the first time its statistics are requested. Inserting, updating and removing a
+ * value adjusts the counts in constant time. The minimum and the maximum can only grow on insertion; removing
+ * the current minimum or maximum marks them as dirty, and they are recomputed from the rows the next time they
+ * are needed. The distinct count is a small {@link HyperLogLog}, which cannot forget values, so it is rebuilt
+ * once the values removed since the last rebuild exceed a quarter of the remaining values. After
+ * {@link RowListener#rowsReset()} every tracked column is rebuilt on its next use.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class ColumnStatistics implements RowListener {
+    private static final int DISTINCT_PRECISION = 10;
+
+    private final DataModel model;
+    private final Map<String, Accumulator> columns = new LinkedHashMap<>();
+    private final NumericValue number = new NumericValue();
+
+    ColumnStatistics(DataModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns the statistics of a column, starting to track it if needed.
+     */
+    ColumnStats getStats(String column) {
+        Accumulator accumulator = columns.get(column);
+        if (accumulator == null) {
+            accumulator = new Accumulator(column);
+            columns.put(column, accumulator);
+        }
+        return accumulator.toStats();
+    }
+
+    /**
+     * Returns the statistics of a column if it is tracked, or null otherwise.
+     */
+    ColumnStats getTrackedStats(String column) {
+        Accumulator accumulator = columns.get(column);
+        return accumulator == null ? null : accumulator.toStats();
+    }
+
+    /**
+     * Returns whether no row of a tracked column can match the given condition value, a single value or a
+     * {@link Range}. Returns false if the column is not tracked.
+     */
+    boolean excludes(String column, Object value) {
+        Accumulator accumulator = columns.get(column);
+        if (accumulator == null) {
+            return false;
+        }
+        accumulator.refresh();
+        if (value == null) {
+            return accumulator.nullCount == 0;
+        }
+        if (value instanceof ValueMatcher && !(value instanceof Range) && !(value instanceof TextMatch)
+                && !(value instanceof NormalizedMatch)) {
+            // Other matchers may match null values.
+            return false;
+        }
+        if (accumulator.nonNullCount == 0) {
+            return true;
+        }
+        if (value instanceof Range) {
+            Range range = (Range) value;
+            accumulator.refreshMinMax();
+            if (range.isNumeric()) {
+                return accumulator.numericCount == accumulator.nonNullCount
+                        && !range.overlaps(accumulator.numericMin, accumulator.numericMax);
+            }
+            return accumulator.getType() == ValueType.STRING
+                    && !range.overlaps(accumulator.min.toString(), accumulator.max.toString());
+        }
+        ValueType type = accumulator.getType();
+        if (type != getType(value) || type == ValueType.OTHER) {
+            return false;
+        }
+        accumulator.refreshMinMax();
+        return ValueComparator.compare(value, accumulator.min, false) < 0
+                || ValueComparator.compare(value, accumulator.max, false) > 0;
+    }
+
+    @Override
+    public void rowInserted(int index, HashMap<String, Object> row) {
+        for (Accumulator accumulator : columns.values()) {
+            accumulator.add(row.get(accumulator.column));
+        }
+    }
+
+    @Override
+    public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        Accumulator accumulator = columns.get(column);
+        if (accumulator != null) {
+            accumulator.remove(oldValue);
+            accumulator.add(row.get(column));
+        }
+    }
+
+    @Override
+    public void rowRemoved(int index, HashMap<String, Object> row) {
+        for (Accumulator accumulator : columns.values()) {
+            accumulator.remove(row.get(accumulator.column));
+        }
+    }
+
+    @Override
+    public void rowsReset() {
+        columns.keySet().removeIf(column -> !model.hasColumn(column));
+        for (Accumulator accumulator : columns.values()) {
+            accumulator.stale = true;
+        }
+    }
+
+    private static ValueType getType(Object value) {
+        if (value instanceof String || value instanceof Character) {
+            return ValueType.STRING;
+        }
+        if (value instanceof Number) {
+            return ValueType.NUMBER;
+        }
+        if (value instanceof Boolean) {
+            return ValueType.BOOLEAN;
+        }
+        return ValueType.OTHER;
+    }
+
+    private final class Accumulator {
+        private final String column;
+        private boolean stale = true;
+        private long nullCount;
+        private long nonNullCount;
+        private final long[] typeCounts = new long[ValueType.values().length];
+        private long numericCount;
+        // The natural minimum and maximum, valid if the values are of a single sortable kind and not dirty.
+        private Object min;
+        private Object max;
+        private boolean minMaxDirty;
+        private double numericMin;
+        private double numericMax;
+        private boolean numericDirty;
+        private HyperLogLog distinct;
+        private long removedSinceRebuild;
+
+        Accumulator(String column) {
+            this.column = column;
+        }
+
+        ValueType getType() {
+            ValueType found = ValueType.NONE;
+            for (ValueType type : ValueType.values()) {
+                if (typeCounts[type.ordinal()] > 0) {
+                    if (found != ValueType.NONE) {
+                        return ValueType.MIXED;
+                    }
+                    found = type;
+                }
+            }
+            return found;
+        }
+
+        private boolean isSortable() {
+            ValueType type = getType();
+            return type == ValueType.STRING || type == ValueType.NUMBER || type == ValueType.BOOLEAN;
+        }
+
+        void add(Object value) {
+            if (stale) {
+                return;
+            }
+            if (value == null) {
+                nullCount++;
+                return;
+            }
+            nonNullCount++;
+            typeCounts[ColumnStatistics.getType(value).ordinal()]++;
+            distinct.add(value);
+            if (!isSortable()) {
+                minMaxDirty = true;
+            } else if (!minMaxDirty) {
+                if (min == null || ValueComparator.compare(value, min, false) < 0) {
+                    min = value;
+                }
+                if (max == null || ValueComparator.compare(value, max, false) > 0) {
+                    max = value;
+                }
+            }
+            if (number.parse(value)) {
+                double v = number.doubleValue();
+                if (numericCount++ == 0) {
+                    numericMin = v;
+                    numericMax = v;
+                } else if (!numericDirty) {
+                    numericMin = Math.min(numericMin, v);
+                    numericMax = Math.max(numericMax, v);
+                }
+            }
+        }
+
+        void remove(Object value) {
+            if (stale) {
+                return;
+            }
+            if (value == null) {
+                nullCount--;
+                return;
+            }
+            boolean wasSortable = isSortable();
+            nonNullCount--;
+            typeCounts[ColumnStatistics.getType(value).ordinal()]--;
+            removedSinceRebuild++;
+            if (wasSortable && !minMaxDirty && (ValueComparator.compare(value, min, false) == 0
+                    || ValueComparator.compare(value, max, false) == 0)) {
+                minMaxDirty = true;
+            }
+            if (number.parse(value)) {
+                numericCount--;
+                double v = number.doubleValue();
+                if (v == numericMin || v == numericMax) {
+                    numericDirty = true;
+                }
+            }
+        }
+
+        /**
+         * Rebuilds all statistics from the rows if a reset has been reported, and the distinct count if too
+         * many values have been removed since it was built.
+         */
+        void refresh() {
+            if (stale) {
+                nullCount = 0;
+                nonNullCount = 0;
+                numericCount = 0;
+                Arrays.fill(typeCounts, 0);
+                min = null;
+                max = null;
+                minMaxDirty = false;
+                numericDirty = false;
+                distinct = new HyperLogLog(DISTINCT_PRECISION);
+                removedSinceRebuild = 0;
+                stale = false;
+                for (HashMap<String, Object> row : model.getRowsInternal()) {
+                    add(row.get(column));
+                }
+            } else if (removedSinceRebuild > nonNullCount / 4) {
+                distinct = new HyperLogLog(DISTINCT_PRECISION);
+                removedSinceRebuild = 0;
+                for (HashMap<String, Object> row : model.getRowsInternal()) {
+                    distinct.add(row.get(column));
+                }
+            }
+        }
+
+        /**
+         * Recomputes the minimum and the maximum from the rows if they are dirty.
+         */
+        void refreshMinMax() {
+            boolean sortable = isSortable();
+            boolean minMax = sortable && minMaxDirty;
+            if (!minMax && !numericDirty) {
+                return;
+            }
+            if (minMax) {
+                min = null;
+                max = null;
+            }
+            long numbers = 0;
+            for (HashMap<String, Object> row : model.getRowsInternal()) {
+                Object value = row.get(column);
+                if (value == null) {
+                    continue;
+                }
+                if (minMax) {
+                    if (min == null || ValueComparator.compare(value, min, false) < 0) {
+                        min = value;
+                    }
+                    if (max == null || ValueComparator.compare(value, max, false) > 0) {
+                        max = value;
+                    }
+                }
+                if (numericDirty && number.parse(value)) {
+                    double v = number.doubleValue();
+                    numericMin = numbers == 0 ? v : Math.min(numericMin, v);
+                    numericMax = numbers == 0 ? v : Math.max(numericMax, v);
+                    numbers++;
+                }
+            }
+            if (minMax) {
+                minMaxDirty = false;
+            }
+            numericDirty = false;
+        }
+
+        ColumnStats toStats() {
+            refresh();
+            refreshMinMax();
+            boolean sortable = isSortable() && nonNullCount > 0;
+            boolean numeric = nonNullCount > 0 && numericCount == nonNullCount;
+            return new ColumnStats(column, nullCount, nonNullCount, getType(), numeric,
+                    sortable ? min : null, sortable ? max : null,
+                    numeric ? Double.valueOf(numericMin) : null, numeric ? Double.valueOf(numericMax) : null,
+                    Math.min(distinct.estimate(), nonNullCount));
+        }
+    }
+}
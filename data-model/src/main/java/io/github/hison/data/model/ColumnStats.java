@@ -0,0 +1,117 @@
+package io.github.hison.data.model;
+
+/**
+ * A snapshot of the statistics of one column of a {@link DataModel}, returned by
+ * {@link DataModel#getColumnStats(String)}.
+ *
+ * <p>The minimum and maximum follow the order of {@link DataModel#sortRowAscending(String)} and are only
+ * available if all non-null values are of the same sortable kind. The numeric minimum and maximum are only
+ * available if all non-null values can be read as numbers. The distinct count is an estimate with a relative
+ * error of a few percent; after many removals it may still include some of the removed values.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class ColumnStats {
+    private final String column;
+    private final long nullCount;
+    private final long nonNullCount;
+    private final ValueType type;
+    private final boolean numeric;
+    private final Object min;
+    private final Object max;
+    private final Double numericMin;
+    private final Double numericMax;
+    private final long distinctEstimate;
+
+    ColumnStats(String column, long nullCount, long nonNullCount, ValueType type, boolean numeric, Object min,
+            Object max, Double numericMin, Double numericMax, long distinctEstimate) {
+        this.column = column;
+        this.nullCount = nullCount;
+        this.nonNullCount = nonNullCount;
+        this.type = type;
+        this.numeric = numeric;
+        this.min = min;
+        this.max = max;
+        this.numericMin = numericMin;
+        this.numericMax = numericMax;
+        this.distinctEstimate = distinctEstimate;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public long getRowCount() {
+        return nullCount + nonNullCount;
+    }
+
+    public long getNullCount() {
+        return nullCount;
+    }
+
+    public long getNonNullCount() {
+        return nonNullCount;
+    }
+
+    public boolean hasNulls() {
+        return nullCount > 0;
+    }
+
+    /**
+     * Returns the kind of the non-null values, or {@link ValueType#NONE} if there is none.
+     */
+    public ValueType getType() {
+        return type;
+    }
+
+    /**
+     * Returns whether there is at least one non-null value and all of them can be read as numbers,
+     * including numeric strings.
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Returns the smallest non-null value, or null if there is none or the values cannot be compared.
+     */
+    public Object getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest non-null value, or null if there is none or the values cannot be compared.
+     */
+    public Object getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the smallest value read as a number, or null if the column is not {@link #isNumeric() numeric}.
+     */
+    public Double getNumericMin() {
+        return numericMin;
+    }
+
+    /**
+     * Returns the largest value read as a number, or null if the column is not {@link #isNumeric() numeric}.
+     */
+    public Double getNumericMax() {
+        return numericMax;
+    }
+
+    /**
+     * Returns the estimated number of distinct non-null values.
+     */
+    public long getDistinctEstimate() {
+        return distinctEstimate;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnStats{column=" + column + ", nullCount=" + nullCount + ", nonNullCount=" + nonNullCount
+                + ", type=" + type + ", min=" + min + ", max=" + max + ", numericMin=" + numericMin
+                + ", numericMax=" + numericMax + ", distinctEstimate=" + distinctEstimate + "}";
+    }
+}
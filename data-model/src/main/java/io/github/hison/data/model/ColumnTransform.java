@@ -0,0 +1,139 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import io.github.hison.data.converter.DataConverter;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Computes the new values of a column as a whole, for {@link DataModel#mapColumn(String,
+ * java.util.function.Function)} and the related methods.
+ *
+ * <p>The source values are first read into arrays, then the function is applied to every position, on the
+ * calling thread or in parallel on the common fork-join pool, and each result is converted with
+ * {@link DataConverter#getConvertValueToDataModelRowValue(Object)}. Nothing is written to the rows until
+ * every value has been computed and checked, so a failure leaves the DataModel unchanged. A failure is reported
+ * with the row index and the original exception as its cause; in parallel mode the failure with the lowest row
+ * index is reported.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class ColumnTransform {
+
+    /**
+     * The number parser of the current thread, reused for every cell read by {@link #toLong(Object, String)}
+     * and {@link #toDouble(Object, String)}, also by the worker threads of a parallel computation.
+     */
+    private static final ThreadLocal<NumericValue> NUMBERS = ThreadLocal.withInitial(NumericValue::new);
+
+    private ColumnTransform() {
+    }
+
+    /**
+     * Reads the values of a column into an array in row order.
+     */
+    static Object[] readColumn(List<HashMap<String, Object>> rows, String column) {
+        Object[] values = new Object[rows.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rows.get(i).get(column);
+        }
+        return values;
+    }
+
+    /**
+     * Computes and converts the value of every row.
+     *
+     * @param size the number of rows
+     * @param column the column being computed, for error messages
+     * @param function computes the unconverted value of a row index
+     * @param parallel whether to compute the rows in parallel
+     * @throws DataException if the function fails for a row, or if the results are not all of the same type
+     */
+    static Object[] compute(int size, String column, IntFunction<Object> function, boolean parallel) {
+        DataConverter converter = DataConverterFactory.getConverter();
+        Object[] results = new Object[size];
+        if (!parallel) {
+            for (int i = 0; i < size; i++) {
+                try {
+                    results[i] = converter.getConvertValueToDataModelRowValue(function.apply(i));
+                } catch (RuntimeException e) {
+                    throw failure(column, i, e);
+                }
+            }
+        } else {
+            AtomicInteger failedRow = new AtomicInteger(Integer.MAX_VALUE);
+            RuntimeException[] failures = new RuntimeException[1];
+            IntStream.range(0, size).parallel().forEach(i -> {
+                if (i > failedRow.get()) {
+                    return;
+                }
+                try {
+                    results[i] = converter.getConvertValueToDataModelRowValue(function.apply(i));
+                } catch (RuntimeException e) {
+                    synchronized (failures) {
+                        if (i < failedRow.get()) {
+                            failedRow.set(i);
+                            failures[0] = e;
+                        }
+                    }
+                }
+            });
+            if (failures[0] != null) {
+                throw failure(column, failedRow.get(), failures[0]);
+            }
+        }
+        checkSameType(results, column);
+        return results;
+    }
+
+    private static DataException failure(String column, int rowIndex, RuntimeException cause) {
+        return new DataException("Failed to compute the value of column " + column + " at row " + rowIndex + ": "
+                + cause.getMessage(), cause);
+    }
+
+    private static void checkSameType(Object[] values, String column) {
+        Class<?> type = null;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (type == null) {
+                type = value.getClass();
+            } else if (type != value.getClass()) {
+                throw new DataException("Please enter the same type. Column: " + column);
+            }
+        }
+    }
+
+    /**
+     * Reads a cell value as a long.
+     *
+     * @throws DataException if the value is not an integral number
+     */
+    static long toLong(Object value, String column) {
+        NumericValue number = NUMBERS.get();
+        if (!number.parse(value) || !number.isIntegral()) {
+            throw new DataException("Cannot convert string to integer. Column: " + column);
+        }
+        return number.longValue();
+    }
+
+    /**
+     * Reads a cell value as a double.
+     *
+     * @throws DataException if the value is not a number
+     */
+    static double toDouble(Object value, String column) {
+        NumericValue number = NUMBERS.get();
+        if (!number.parse(value)) {
+            throw new DataException("Cannot convert string to number. Column: " + column);
+        }
+        return number.doubleValue();
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.hison.data.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The rows of a {@link DataModel} that have been inserted, updated or deleted since the changes were last
+ * accepted, as returned by {@link DataModel#getChanges()}.
+ *
+ * <p>Each list is in the order in which the rows were first changed.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * DataChanges changes = dataModel.getChanges();
+ * for (RowChange change : changes.getUpdatedRows()) {
+ *     repository.update(change.getOriginalRow().get("id"), change.getRow());
+ * }
+ * dataModel.acceptChanges();
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class DataChanges {
+    private final List<RowChange> insertedRows;
+    private final List<RowChange> updatedRows;
+    private final List<RowChange> deletedRows;
+
+    DataChanges(List<RowChange> insertedRows, List<RowChange> updatedRows, List<RowChange> deletedRows) {
+        this.insertedRows = Collections.unmodifiableList(insertedRows);
+        this.updatedRows = Collections.unmodifiableList(updatedRows);
+        this.deletedRows = Collections.unmodifiableList(deletedRows);
+    }
+
+    /**
+     * @return the inserted rows
+     */
+    public List<RowChange> getInsertedRows() {
+        return insertedRows;
+    }
+
+    /**
+     * @return the updated rows
+     */
+    public List<RowChange> getUpdatedRows() {
+        return updatedRows;
+    }
+
+    /**
+     * @return the deleted rows
+     */
+    public List<RowChange> getDeletedRows() {
+        return deletedRows;
+    }
+
+    /**
+     * @return the total number of changed rows
+     */
+    public int size() {
+        return insertedRows.size() + updatedRows.size() + deletedRows.size();
+    }
+
+    /**
+     * @return true if no row has been changed
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -5,6 +5,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -14,8 +15,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.servlet.http.HttpSession;
 
@@ -27,9 +34,16 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.node.NullNode;
 
 import io.github.hison.data.condition.Condition;
+import io.github.hison.data.condition.NormalizedMatch;
+import io.github.hison.data.condition.Range;
+import io.github.hison.data.condition.TextMatch;
+import io.github.hison.data.condition.TextNormalizer;
+import io.github.hison.data.condition.ValueMatcher;
 import io.github.hison.data.converter.DataConverter;
 import io.github.hison.data.converter.DataConverterFactory;
 import io.github.hison.data.exception.DataException;
+import io.github.hison.data.sketch.HyperLogLog;
+import io.github.hison.data.sketch.QuantileSketch;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -108,9 +122,16 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 @JsonSerialize(using = DataModelSerializer.class)
 public final class DataModel implements Cloneable{
     private LinkedHashSet<String> cols;
-    private ArrayList<HashMap<String, Object>> rows;
+    private List<HashMap<String, Object>> rows;
     private boolean freeze = false;
     private boolean freezeValues = false;
+    private List<RowListener> listeners;
+    private ChangeTracker changeTracker;
+    private ColumnStatistics columnStatistics;
+    private Map<String, ZoneMap> zoneMaps;
+    private Map<String, BloomIndex> bloomIndexes;
+    private Map<String, TextIndex> textIndexes;
+    private Map<String, NormalizedIndex> normalizedIndexes;
     
     private DataConverter getConverter() {
         return DataConverterFactory.getConverter();
@@ -172,6 +193,276 @@ public final class DataModel implements Cloneable{
         }
     }
 
+    /**
+     * Returns the internal row storage without copying. Only for read access from this package.
+     */
+    List<HashMap<String, Object>> getRowsInternal() {
+        return rows;
+    }
+
+    void addRowListener(RowListener listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>(2);
+        }
+        listeners.add(listener);
+    }
+
+    void removeRowListener(RowListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                listeners = null;
+            }
+        }
+    }
+
+    private void fireRowInserted(int index, HashMap<String, Object> row) {
+        if (listeners != null) {
+            for (RowListener listener : new ArrayList<>(listeners)) {
+                listener.rowInserted(index, row);
+            }
+        }
+    }
+
+    private void fireRowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        if (listeners != null) {
+            for (RowListener listener : new ArrayList<>(listeners)) {
+                listener.rowUpdated(index, row, column, oldValue);
+            }
+        }
+    }
+
+    private void fireRowRemoved(int index, HashMap<String, Object> row) {
+        if (listeners != null) {
+            for (RowListener listener : new ArrayList<>(listeners)) {
+                listener.rowRemoved(index, row);
+            }
+        }
+    }
+
+    private void fireRowsReset() {
+        if (listeners != null) {
+            for (RowListener listener : new ArrayList<>(listeners)) {
+                listener.rowsReset();
+            }
+        }
+    }
+
+    /**
+     * Removes the rows that do not satisfy the predicate, keeping the order and the instances of the others.
+     * The predicate is evaluated for all rows before any row is removed.
+     */
+    private void retainRows(Predicate<HashMap<String, Object>> keep) {
+        int size = rows.size();
+        boolean[] kept = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            kept[i] = keep.test(rows.get(i));
+        }
+        List<HashMap<String, Object>> removedRows = new ArrayList<>();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            HashMap<String, Object> row = rows.get(i);
+            if (kept[i]) {
+                rows.set(count++, row);
+            } else {
+                removedRows.add(row);
+            }
+        }
+        rows.subList(count, size).clear();
+        if (listeners != null) {
+            // Report the removals from the last to the first, so that each index is valid when applied in sequence.
+            int r = removedRows.size() - 1;
+            for (int i = size - 1; i >= 0; i--) {
+                if (!kept[i]) {
+                    fireRowRemoved(i, removedRows.get(r--));
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws if the structure or the values of this DataModel are frozen.
+     */
+    void checkModifiable() {
+        if(freeze || freezeValues) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
+    }
+
+    /**
+     * Throws if this DataModel is a slice of another one. A slice is not notified of the changes made to its
+     * source, so statistics and indexes built on it would become stale.
+     */
+    private void checkNotSlice() {
+        if (rows instanceof RowWindow) {
+            throw new DataException("Statistics and indexes cannot be added to a slice. Use clone() to obtain an independent copy.");
+        }
+    }
+
+    /**
+     * Appends a column with already converted values, one per row in row order, or overwrites the values of the
+     * column if it already exists. Adding the column is reported as a reset, and every written value as an
+     * update of its row, so that change tracking records the new cells.
+     */
+    void putColumnValues(String column, Object[] values) {
+        checkModifiable();
+        if (cols.add(column)) {
+            fireRowsReset();
+        }
+        writeColumnValues(column, values);
+    }
+
+    /**
+     * Creates a DataModel directly from already converted rows, without copying or converting them again.
+     */
+    static DataModel fromInternalRows(Collection<String> columns, ArrayList<HashMap<String, Object>> newRows) {
+        DataModel dm = new DataModel();
+        dm.cols.addAll(columns);
+        dm.rows = newRows;
+        return dm;
+    }
+
+    /**
+     * Checks whether a row matches all of the given conditions (treated as AND conditions).
+     *
+     * @throws DataException if a column from the conditions does not exist in the row.
+     */
+    static boolean matchesConditions(HashMap<String, Object> row, List<Condition> conditions) {
+        for (Condition condition : conditions) {
+            if (!condition.test(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Passes the index of every row that matches all of the given conditions ({@code bool} true) or does not
+     * match them ({@code bool} false) to the action, in row order.
+     *
+     * <p>Rows are not read if the column statistics prove that no row matches, only the rows found by a text
+     * index or a normalized index are read for a condition on an indexed column, and chunks of rows are not read if a zone map proves
+     * that none of their rows is within a {@link Range} of the conditions.</p>
+     */
+    private void forEachSearchResult(boolean bool, Condition[] conditions, IntConsumer action) {
+        if (bool && hasNoMatch(conditions)) {
+            return;
+        }
+        List<Condition> conditionList = Arrays.asList(conditions);
+        int[] indexedRows = bool ? getIndexedRows(conditions) : null;
+        if (indexedRows != null) {
+            for (int i : indexedRows) {
+                if (matchesConditions(rows.get(i), conditionList)) {
+                    action.accept(i);
+                }
+            }
+            return;
+        }
+        List<ZoneMap> zones = new ArrayList<>();
+        List<boolean[]> candidates = new ArrayList<>();
+        if (zoneMaps != null && hasColumns(conditions)) {
+            for (Condition condition : conditions) {
+                for (Map.Entry<String, Object> entry : condition.entrySet()) {
+                    ZoneMap zoneMap = zoneMaps.get(entry.getKey());
+                    if (zoneMap != null && entry.getValue() instanceof Range) {
+                        zones.add(zoneMap);
+                        candidates.add(zoneMap.getCandidateChunks((Range) entry.getValue()));
+                    }
+                }
+            }
+        }
+        int size = rows.size();
+        int i = 0;
+        while (i < size) {
+            int skipTo = i;
+            for (int z = 0; z < zones.size(); z++) {
+                int chunkSize = zones.get(z).getChunkSize();
+                int chunk = i / chunkSize;
+                if (chunk < candidates.get(z).length && !candidates.get(z)[chunk]) {
+                    skipTo = Math.max(skipTo, Math.min(size, (chunk + 1) * chunkSize));
+                }
+            }
+            if (skipTo > i) {
+                // No row of the skipped chunk matches the conditions.
+                for (; !bool && i < skipTo; i++) {
+                    action.accept(i);
+                }
+                i = skipTo;
+                continue;
+            }
+            if (matchesConditions(rows.get(i), conditionList) == bool) {
+                action.accept(i);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Returns the ascending indexes of the rows that may match the conditions according to the most selective
+     * text or normalized index, or null if no condition can be answered by an index.
+     */
+    private int[] getIndexedRows(Condition[] conditions) {
+        if ((textIndexes == null && normalizedIndexes == null) || !hasColumns(conditions)) {
+            return null;
+        }
+        int[] best = null;
+        for (Condition condition : conditions) {
+            for (Map.Entry<String, Object> entry : condition.entrySet()) {
+                int[] found = getIndexedRows(entry.getKey(), entry.getValue());
+                if (found != null && (best == null || found.length < best.length)) {
+                    best = found;
+                }
+            }
+        }
+        return best;
+    }
+
+    private int[] getIndexedRows(String column, Object value) {
+        if (value instanceof TextMatch) {
+            TextIndex textIndex = textIndexes == null ? null : textIndexes.get(column);
+            return textIndex == null ? null : textIndex.getMatchingRows((TextMatch) value);
+        }
+        NormalizedIndex normalizedIndex = normalizedIndexes == null ? null : normalizedIndexes.get(column);
+        if (normalizedIndex == null) {
+            return null;
+        }
+        if (value instanceof NormalizedMatch) {
+            NormalizedMatch match = (NormalizedMatch) value;
+            return match.getNormalizer() == normalizedIndex.getNormalizer() ? normalizedIndex.getRows(match) : null;
+        }
+        // Equal values have equal keys, so the rows of the key of a plain value include all of its rows.
+        return value == null || value instanceof ValueMatcher ? null : normalizedIndex.getRows(value);
+    }
+
+    private boolean hasColumns(Condition[] conditions) {
+        for (Condition condition : conditions) {
+            for (String key : condition.keySet()) {
+                if (!cols.contains(key)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the column statistics prove that no row matches all of the given conditions.
+     * Only columns whose statistics are tracked are considered.
+     */
+    private boolean hasNoMatch(Condition[] conditions) {
+        if (columnStatistics == null || !hasColumns(conditions)) {
+            return false;
+        }
+        for (Condition condition : conditions) {
+            for (Map.Entry<String, Object> entry : condition.entrySet()) {
+                if (columnStatistics.excludes(entry.getKey(), entry.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private List<Map<String, Object>> getConvertedEntitiesToMaps(List<Object> entities) {
         List<Map<String, Object>> maps = new ArrayList<>();
         ObjectMapper mapper = getConverter().getObjectMapperForConvertEntitiesToDataModel();
@@ -546,8 +837,15 @@ public final class DataModel implements Cloneable{
         if(freezeValues) {
             throw new DataException("This DataModel is frozen and cannot be modified.");
         }
+        List<HashMap<String, Object>> removedRows = listeners == null ? null : new ArrayList<>(rows);
         cols.clear();
         rows.clear();
+        if (removedRows != null) {
+            for (int i = removedRows.size() - 1; i >= 0; i--) {
+                fireRowRemoved(i, removedRows.get(i));
+            }
+            fireRowsReset();
+        }
 
         return this;
     }
@@ -799,8 +1097,10 @@ public final class DataModel implements Cloneable{
             throw new DataException("This DataModel is frozen and cannot be modified.");
         }
         if(!hasColumn(column)) return this;
-        for (HashMap<String, Object> map : rows) {
-            map.put(column, value);
+        for (int i = 0; i < rows.size(); i++) {
+            HashMap<String, Object> map = rows.get(i);
+            Object oldValue = map.put(column, value);
+            fireRowUpdated(i, map, column, oldValue);
         }
         return this;
     }
@@ -845,18 +1145,280 @@ public final class DataModel implements Cloneable{
             throw new DataException("This DataModel is frozen and cannot be modified.");
         }
 
-        for (HashMap<String, Object> row : rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            HashMap<String, Object> row = rows.get(i);
             Object originalValue = row.get(column);
             try {
                 Object formattedValue = formatter.apply(originalValue);
                 row.put(column, formattedValue);
+                fireRowUpdated(i, row, column, originalValue);
             } catch (Exception e) {
-                throw new DataException("Error formatting value: " + originalValue + ". Leaving it as is.");
+                throw new DataException("Error formatting value: " + originalValue + ". Leaving it as is.", e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Replaces every value of a column with the result of the mapper, computing the whole column before any row
+     * is changed.
+     *
+     * <p>Unlike {@link #setColumnSameFormat(String, Function)}, the results are converted with
+     * {@link DataConverter#getConvertValueToDataModelRowValue(Object)} like any other value added to the
+     * DataModel, and the operation is atomic: if the mapper fails for a row or the results are not all of the
+     * same type, no row is changed and the {@link DataException} names the row and carries the original
+     * exception as its cause.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.mapColumn("name", value -&gt; value == null ? null : value.toString().trim());
+     * </pre>
+     *
+     * @param column The name of the column to transform.
+     * @param mapper The function computing the new value from the current value, including null values.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if the mapper fails, if the results are of different
+     *                       types, or if the values of this DataModel are frozen.
+     */
+    public DataModel mapColumn(String column, Function<Object, Object> mapper) {
+        return mapColumn(column, mapper, false);
+    }
+
+    /**
+     * Replaces every value of a column with the result of the mapper, optionally computing the values in parallel.
+     *
+     * <p>Functionally identical to {@link #mapColumn(String, Function)}. With {@code parallel} set, the mapper is
+     * called from several threads of the common fork-join pool, so it must be thread-safe; the rows are still
+     * written and the changes reported on the calling thread, in row order.</p>
+     *
+     * @param column The name of the column to transform.
+     * @param mapper The function computing the new value from the current value, including null values.
+     * @param parallel If true, the values are computed in parallel.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if the mapper fails, if the results are of different
+     *                       types, or if the values of this DataModel are frozen.
+     */
+    public DataModel mapColumn(String column, Function<Object, Object> mapper, boolean parallel) {
+        checkTransformColumn(column);
+        Object[] values = ColumnTransform.readColumn(rows, column);
+        writeColumnValues(column, ColumnTransform.compute(values.length, column, i -> mapper.apply(values[i]), parallel));
+        return this;
+    }
+
+    /**
+     * Replaces every non-null value of a column, read as a long, with the result of the operator.
+     * Null values are left as they are.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.mapLong("amount", amount -&gt; amount * 100);
+     * </pre>
+     *
+     * @param column The name of the column to transform.
+     * @param operator The function computing the new value from the current value.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if a value is not an integral number, if the operator
+     *                       fails, or if the values of this DataModel are frozen.
+     */
+    public DataModel mapLong(String column, LongUnaryOperator operator) {
+        return mapLong(column, operator, false);
+    }
+
+    /**
+     * Replaces every non-null value of a column, read as a long, with the result of the operator, optionally
+     * computing the values in parallel.
+     *
+     * <p>Functionally identical to {@link #mapLong(String, LongUnaryOperator)}. With {@code parallel} set,
+     * the operator is called from several threads of the common fork-join pool, so it must be thread-safe.</p>
+     *
+     * @param column The name of the column to transform.
+     * @param operator The function computing the new value from the current value.
+     * @param parallel If true, the values are computed in parallel.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if a value is not an integral number, if the operator
+     *                       fails, or if the values of this DataModel are frozen.
+     */
+    public DataModel mapLong(String column, LongUnaryOperator operator, boolean parallel) {
+        checkTransformColumn(column);
+        Object[] values = ColumnTransform.readColumn(rows, column);
+        writeColumnValues(column, ColumnTransform.compute(values.length, column, i -> values[i] == null
+                ? null : (Object) operator.applyAsLong(ColumnTransform.toLong(values[i], column)), parallel));
+        return this;
+    }
+
+    /**
+     * Replaces every non-null value of a column, read as a double, with the result of the operator.
+     * Null values are left as they are.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.mapDouble("price", price -&gt; Math.round(price * 1.1 * 100) / 100.0);
+     * </pre>
+     *
+     * @param column The name of the column to transform.
+     * @param operator The function computing the new value from the current value.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if a value is not a number, if the operator fails,
+     *                       or if the values of this DataModel are frozen.
+     */
+    public DataModel mapDouble(String column, DoubleUnaryOperator operator) {
+        return mapDouble(column, operator, false);
+    }
+
+    /**
+     * Replaces every non-null value of a column, read as a double, with the result of the operator, optionally
+     * computing the values in parallel.
+     *
+     * <p>Functionally identical to {@link #mapDouble(String, DoubleUnaryOperator)}. With {@code parallel} set,
+     * the operator is called from several threads of the common fork-join pool, so it must be thread-safe.</p>
+     *
+     * @param column The name of the column to transform.
+     * @param operator The function computing the new value from the current value.
+     * @param parallel If true, the values are computed in parallel.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if a value is not a number, if the operator fails,
+     *                       or if the values of this DataModel are frozen.
+     */
+    public DataModel mapDouble(String column, DoubleUnaryOperator operator, boolean parallel) {
+        checkTransformColumn(column);
+        Object[] values = ColumnTransform.readColumn(rows, column);
+        writeColumnValues(column, ColumnTransform.compute(values.length, column, i -> values[i] == null
+                ? null : (Object) operator.applyAsDouble(ColumnTransform.toDouble(values[i], column)), parallel));
+        return this;
+    }
+
+    /**
+     * Replaces every non-null value of a column, read as a string, with the result of the operator.
+     * Null values are left as they are.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.mapString("email", String::toLowerCase);
+     * </pre>
+     *
+     * @param column The name of the column to transform.
+     * @param operator The function computing the new value from the current value.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if the operator fails, or if the values of this
+     *                       DataModel are frozen.
+     */
+    public DataModel mapString(String column, UnaryOperator<String> operator) {
+        return mapString(column, operator, false);
+    }
+
+    /**
+     * Replaces every non-null value of a column, read as a string, with the result of the operator, optionally
+     * computing the values in parallel.
+     *
+     * <p>Functionally identical to {@link #mapString(String, UnaryOperator)}. With {@code parallel} set,
+     * the operator is called from several threads of the common fork-join pool, so it must be thread-safe.</p>
+     *
+     * @param column The name of the column to transform.
+     * @param operator The function computing the new value from the current value.
+     * @param parallel If true, the values are computed in parallel.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the column does not exist, if the operator fails, or if the values of this
+     *                       DataModel are frozen.
+     */
+    public DataModel mapString(String column, UnaryOperator<String> operator, boolean parallel) {
+        checkTransformColumn(column);
+        Object[] values = ColumnTransform.readColumn(rows, column);
+        writeColumnValues(column, ColumnTransform.compute(values.length, column,
+                i -> values[i] == null ? null : operator.apply(values[i].toString()), parallel));
+        return this;
+    }
+
+    /**
+     * Computes a column from the values of several source columns in one pass. If the column does not exist it
+     * is added after the last column; otherwise its values are replaced.
+     *
+     * <p>The function receives the values of the source columns of a row, in the order of
+     * {@code sourceColumns}, and its results are converted and checked like those of
+     * {@link #mapColumn(String, Function)}. The whole column is computed before any row is changed.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.computeColumn("total", Arrays.asList("price", "quantity"), values -&gt;
+     *         Double.parseDouble((String) values[0]) * Integer.parseInt((String) values[1]));
+     * </pre>
+     *
+     * @param column The name of the column to compute.
+     * @param sourceColumns The names of the columns whose values are passed to the function.
+     * @param function The function computing the value of a row from its source values.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if a source column does not exist, if the function fails, if the results are of
+     *                       different types, or if this DataModel is frozen.
+     */
+    public DataModel computeColumn(String column, List<String> sourceColumns, Function<Object[], Object> function) {
+        return computeColumn(column, sourceColumns, function, false);
+    }
+
+    /**
+     * Computes a column from the values of several source columns in one pass, optionally in parallel.
+     *
+     * <p>Functionally identical to {@link #computeColumn(String, List, Function)}. With {@code parallel} set,
+     * the function is called from several threads of the common fork-join pool, so it must be thread-safe.</p>
+     *
+     * @param column The name of the column to compute.
+     * @param sourceColumns The names of the columns whose values are passed to the function.
+     * @param function The function computing the value of a row from its source values.
+     * @param parallel If true, the values are computed in parallel.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if a source column does not exist, if the function fails, if the results are of
+     *                       different types, or if this DataModel is frozen.
+     */
+    public DataModel computeColumn(String column, List<String> sourceColumns, Function<Object[], Object> function,
+            boolean parallel) {
+        if (column == null) {
+            throw new DataException("The column name must not be null.");
+        }
+        boolean exists = cols.contains(column);
+        if (exists ? freezeValues : freeze || freezeValues) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
+        Object[][] sources = new Object[sourceColumns.size()][];
+        for (int c = 0; c < sources.length; c++) {
+            String sourceColumn = sourceColumns.get(c);
+            if (!cols.contains(sourceColumn)) {
+                throw new DataException("Column " + sourceColumn + " does not exist.");
+            }
+            sources[c] = ColumnTransform.readColumn(rows, sourceColumn);
+        }
+        Object[] values = ColumnTransform.compute(rows.size(), column, i -> {
+            Object[] arguments = new Object[sources.length];
+            for (int c = 0; c < sources.length; c++) {
+                arguments[c] = sources[c][i];
             }
+            return function.apply(arguments);
+        }, parallel);
+        if (exists) {
+            writeColumnValues(column, values);
+        } else {
+            putColumnValues(column, values);
         }
         return this;
     }
 
+    private void checkTransformColumn(String column) {
+        if (!cols.contains(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        if(freezeValues) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
+    }
+
+    /**
+     * Writes already converted values, one per row in row order, into an existing column.
+     */
+    private void writeColumnValues(String column, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            HashMap<String, Object> row = rows.get(i);
+            Object oldValue = row.put(column, values[i]);
+            fireRowUpdated(i, row, column, oldValue);
+        }
+    }
+
     /**
      * Adds an empty row to the end of the DataModel. This method utilizes the {@link #addRow(int)} method
      * by passing the current size of the rows as the index, effectively appending the new row to the end.
@@ -933,6 +1495,7 @@ public final class DataModel implements Cloneable{
         }
 
         rows.add(rowIndex, newRow);
+        fireRowInserted(rowIndex, newRow);
         return this;
     };
 
@@ -1047,6 +1610,7 @@ public final class DataModel implements Cloneable{
     
         // Insert the new row at the specified index
         rows.add(rowIndex, hm);
+        fireRowInserted(rowIndex, hm);
     
         return this;
     }
@@ -1668,18 +2232,109 @@ public final class DataModel implements Cloneable{
     }
 
     /**
-     * Retrieves the value from the specified column and row index in the DataModel.
-     * 
+     * Returns an unmodifiable view of the rows of the DataModel, without copying the list of rows.
+     *
+     * <p>Unlike {@link #getRows()}, this method takes constant time and always reflects the current rows.
+     * It is intended for reading, e.g. to serialize the rows.</p>
+     *
+     * <p><b>Note:</b> The rows themselves are not copied. They must not be modified, otherwise the change is not
+     * visible to the views and the change tracking of this DataModel.</p>
+     *
+     * @return An unmodifiable {@code List} of the rows in the DataModel.
+     */
+    public List<HashMap<String, Object>> getUnmodifiableRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the rows of this DataModel, without copying them.
+     *
+     * <p>Each row is exposed as an unmodifiable view of the row, so standard stream operations and collectors
+     * can read the rows directly.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with rows of data]
-     * Object value = dataModel.getValue(2, "columnName");  // Assume you want the value from the third row and a column named "columnName"
-     * System.out.println("Value from rowIndex 2 and column 'columnName': " + value);
+     * long count = originalDm.stream().filter(row -&gt; "A01".equals(row.get("deptcode"))).count();
      * </pre>
      *
-     * <p><b>Note:</b> Row index starts from 0. Make sure to provide a valid row index. If the rows are empty or the provided row index 
-     * is out of range (i.e., less than 0 or greater than the number of rows minus one), a DataException will be thrown.</p>
+     * <p><b>Note:</b> The DataModel must not be modified while the stream is being consumed.</p>
+     *
+     * @return A sequential {@link Stream} of the rows.
+     */
+    public Stream<Map<String, Object>> stream() {
+        return StreamSupport.stream(new RowSpliterator(rows, 0, rows.size()), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} over the rows of this DataModel, without copying them.
+     *
+     * <p>The rows are split by index range into parts of exactly known size, so large DataModels are processed
+     * evenly across the threads of the common {@link java.util.concurrent.ForkJoinPool}. Each row is exposed as an
+     * unmodifiable view of the row.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Map&lt;Object, Long&gt; countByDept = originalDm.parallelStream()
+     *         .collect(Collectors.groupingByConcurrent(row -&gt; row.get("deptcode"), Collectors.counting()));
+     * </pre>
+     *
+     * <p><b>Note:</b> The DataModel must not be modified while the stream is being consumed.</p>
+     *
+     * @return A parallel {@link Stream} of the rows.
+     */
+    public Stream<Map<String, Object>> parallelStream() {
+        return StreamSupport.stream(new RowSpliterator(rows, 0, rows.size()), true);
+    }
+
+    /**
+     * Returns a window of the rows of this DataModel as a lightweight, read-only {@link DataModel}, e.g. for
+     * server-side paging.
+     *
+     * <p>The returned DataModel shares the rows of this DataModel instead of copying and converting them, so
+     * creating it takes constant time regardless of the size of the window, and serializing it writes only the
+     * rows of the window. It always shows the rows that are currently in the range {@code [offset, offset + limit)}
+     * of this DataModel, and is empty if this DataModel has fewer than {@code offset} rows.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * DataModel page = cachedDm.slice(pageIndex * pageSize, pageSize);
+     * return page; // Serialized as a JSON array of at most pageSize rows
+     * </pre>
+     *
+     * <p><b>Note:</b> The returned DataModel is frozen (see {@link #setFreeze()}) and its columns are those of this
+     * DataModel at the time of the call. Use {@link #clone()} on it to obtain an independent, modifiable copy.
+     * Views and change tracking of the returned DataModel do not observe changes made to this DataModel, and
+     * column statistics and indexes cannot be added to it.</p>
+     *
+     * @param offset The index of the first row of the window.
+     * @param limit The maximum number of rows in the window.
+     * @return A frozen {@link DataModel} sharing the rows of the window.
+     * @throws DataException if the offset or the limit is negative.
+     */
+    public DataModel slice(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new DataException("The offset and the limit must not be negative. offset: " + offset + ", limit: " + limit);
+        }
+        DataModel dm = new DataModel();
+        dm.cols.addAll(cols);
+        dm.rows = new RowWindow(rows, offset, limit);
+        dm.setFreeze();
+        return dm;
+    }
+
+    /**
+     * Retrieves the value from the specified column and row index in the DataModel.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with rows of data]
+     * Object value = dataModel.getValue(2, "columnName");  // Assume you want the value from the third row and a column named "columnName"
+     * System.out.println("Value from rowIndex 2 and column 'columnName': " + value);
+     * </pre>
+     *
+     * <p><b>Note:</b> Row index starts from 0. Make sure to provide a valid row index. If the rows are empty or the provided row index 
+     * is out of range (i.e., less than 0 or greater than the number of rows minus one), a DataException will be thrown.</p>
      *
      * @param rowIndex The index of the row (0-based) from which the value should be retrieved.
      * @param column The name of the column from which the value should be retrieved.
@@ -1749,7 +2404,8 @@ public final class DataModel implements Cloneable{
 
         // Set the value in the specified row and column
         HashMap<String, Object> row = rows.get(rowIndex);
-        row.put(column, value);
+        Object oldValue = row.put(column, value);
+        fireRowUpdated(rowIndex, row, column, oldValue);
     
         return this;
     }
@@ -1780,7 +2436,9 @@ public final class DataModel implements Cloneable{
             throw new DataException("This DataModel is frozen and cannot be modified.");
         }
         checkRowsRange(rowIndex);
-        return rows.remove(rowIndex);
+        HashMap<String, Object> removedRow = rows.remove(rowIndex);
+        fireRowRemoved(rowIndex, removedRow);
+        return removedRow;
     }
 
     /**
@@ -1814,6 +2472,7 @@ public final class DataModel implements Cloneable{
         for (HashMap<String, Object> row : rows) {
             row.remove(column);
         }
+        fireRowsReset();
         return this;
     }
 
@@ -1852,6 +2511,7 @@ public final class DataModel implements Cloneable{
                 row.remove(column);
             }
         }
+        fireRowsReset();
         return this;
     }
 
@@ -1880,6 +2540,7 @@ public final class DataModel implements Cloneable{
                 row.remove(column);
             }
         }
+        fireRowsReset();
         return this;
     }
 
@@ -1908,6 +2569,7 @@ public final class DataModel implements Cloneable{
                 row.remove(column);
             }
         }
+        fireRowsReset();
         return this;
     }
 
@@ -1968,6 +2630,7 @@ public final class DataModel implements Cloneable{
         for (HashMap<String, Object> row : rows) {
             row.keySet().retainAll(columns);
         }
+        fireRowsReset();
         return this;
     }
 
@@ -1994,6 +2657,10 @@ public final class DataModel implements Cloneable{
         if (!hasColumn(column)) {
             throw new DataException("Column " + column + " does not exist.");
         }
+        ColumnStats stats = columnStatistics == null ? null : columnStatistics.getTrackedStats(column);
+        if (stats != null) {
+            return !stats.hasNulls();
+        }
         for (int i = 0; i < rows.size(); i++) {
             HashMap<String, Object> row = rows.get(i);
             if (row.get(column) == null) {
@@ -2027,6 +2694,10 @@ public final class DataModel implements Cloneable{
         if (!hasColumn(column)) {
             throw new DataException("Column " + column + " does not exist.");
         }
+        ColumnStats stats = columnStatistics == null ? null : columnStatistics.getTrackedStats(column);
+        if (stats != null && !stats.hasNulls()) {
+            return null;
+        }
         for (int i = 0; i < rows.size(); i++) {
             HashMap<String, Object> row = rows.get(i);
             if (row.get(column) == null) {
@@ -2112,387 +2783,584 @@ public final class DataModel implements Cloneable{
     }
 
     /**
-     * Validates all non-null values of a specified column using a provided validator.
-     * 
+     * Returns the statistics of the specified column: the null count, the kind of the values, the minimum and
+     * maximum, and an estimate of the distinct count.
+     *
+     * <p>The first call for a column reads its values once; from then on the statistics are maintained as rows
+     * are added, changed and removed through this DataModel, so later calls are cheap. While a column is
+     * tracked, {@link #isNotNullColumn(String)} and {@link #findFirstRowNullColumn(String)} answer from the
+     * null count, and the search methods return without reading the rows when a condition value of the column
+     * is outside its range of values.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Predicate&lt;Object&gt; isEmail = value -&gt; {
-     *     if (!(value instanceof String)) return false;
-     *     String stringValue = (String) value;
-     *     String emailPattern = "^[\\w.-]+@([\\w\\-]+\\.)+[A-Za-z]{2,4}$";
-     *     return stringValue.matches(emailPattern);
-     * };
-     * 
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with columns and rows of data]
-     * if (dataModel.isValidValue("emailColumn", isEmail)) {
-     *     System.out.println("All emails are valid.");
-     * } else {
-     *     System.out.println("There is an invalid email.");
+     * ColumnStats stats = dataModel.getColumnStats("age");
+     * if (!stats.hasNulls() &amp;&amp; stats.isNumeric()) {
+     *     System.out.println(stats.getNumericMin() + " ~ " + stats.getNumericMax());
      * }
      * </pre>
      *
-     * <p><b>Note:</b></p>
-     * <ul>
-     * <li>If the specified column does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * </ul>
-     *
-     * @param column The name of the column to validate.
-     * @param validator A predicate that defines the validation criteria.
-     * @return True if all non-null values of the specified column are valid, otherwise false.
+     * @param column The name of the column.
+     * @return A snapshot of the statistics of the column.
      * @throws DataException if the specified column does not exist in the DataModel.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
      */
-    public boolean isValidValue(String column, Predicate<Object> validator) {
+    public ColumnStats getColumnStats(String column) {
+        checkNotSlice();
         if (!hasColumn(column)) {
             throw new DataException("Column " + column + " does not exist.");
         }
-        for (HashMap<String, Object> row : rows) {
-            Object value = row.get(column);
-            if (value != null && !validator.test(value)) {
-                return false;
-            }
+        if (columnStatistics == null) {
+            columnStatistics = new ColumnStatistics(this);
+            addRowListener(columnStatistics);
         }
-        return true;
+        return columnStatistics.getStats(column);
     }
 
     /**
-     * Finds and returns the first row with an invalid value for the specified column using a provided validator.
-     * 
+     * Adds a zone map with the default chunk size of 1024 rows to the specified column.
+     *
+     * <p>Functionally identical to {@link #addZoneMap(String, int)} with a chunk size of 1024.</p>
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
+     */
+    public DataModel addZoneMap(String column) {
+        return addZoneMap(column, 1024);
+    }
+
+    /**
+     * Adds a zone map to the specified column, so that searches with a {@link Range} condition on the column
+     * skip the chunks of rows that cannot match.
+     *
+     * <p>The rows are divided into chunks of {@code chunkSize} consecutive rows, and the minimum and maximum of
+     * the column are kept per chunk. Appending rows and changing values keep the summaries current; inserting
+     * or removing rows before the end, sorting or changing the columns cause them to be rebuilt by the next
+     * search. Zone maps are most effective when the column is roughly ordered by row, like the timestamp of an
+     * event log. {@link #searchRowIndexes(Condition...)}, {@link #searchRows(Condition...)} and
+     * {@link #searchRowsAsDataModel(Condition...)} use them; the predicates of the filter methods are opaque
+     * and are tested on every row.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Predicate&lt;Object&gt; isEmail = value -&gt; {
-     *     if (!(value instanceof String)) return false;
-     *     String stringValue = (String) value;
-     *     String emailPattern = "^[\\w.-]+@([\\w\\-]+\\.)+[A-Za-z]{2,4}$";
-     *     return stringValue.matches(emailPattern);
-     * };
-     * 
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with columns and rows of data]
-     * HashMap&lt;String, Object&gt; firstInvalidRow = dataModel.findFirstRowInvalidValue("emailColumn", isEmail);
-     * if (firstInvalidRow != null) {
-     *     System.out.println("Row containing the first invalid email: " + firstInvalidRow);
-     * } else {
-     *     System.out.println("All emails are valid.");
-     * }
+     * eventDm.addZoneMap("createdAt");
+     * List&lt;Integer&gt; today = eventDm.searchRowIndexes(
+     *         Condition.between("createdAt", "2024-03-01 00:00:00", "2024-03-01 23:59:59"));
      * </pre>
      *
-     * <p><b>Note:</b></p>
-     * <ul>
-     * <li>If the specified column does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * </ul>
-     *
-     * @param column The name of the column to validate.
-     * @param validator A predicate that defines the validation criteria.
-     * @return The first row with an invalid value for the specified column, or null if all values are valid.
-     * @throws DataException if the specified column does not exist in the DataModel.
+     * @param column The name of the column.
+     * @param chunkSize The number of rows summarized together.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel or the chunk size is not positive.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
      */
-    public HashMap<String, Object> findFirstRowInvalidValue(String column, Predicate<Object> validator) {
+    public DataModel addZoneMap(String column, int chunkSize) {
+        checkNotSlice();
         if (!hasColumn(column)) {
             throw new DataException("Column " + column + " does not exist.");
         }
-        for (int i = 0; i < rows.size(); i++) {
-            HashMap<String, Object> row = rows.get(i);
-            Object value = row.get(column);
-            if (value != null && !validator.test(value)) {
-                return getRow(i);
+        if (chunkSize <= 0) {
+            throw new DataException("The chunk size must be positive: " + chunkSize);
+        }
+        removeZoneMap(column);
+        if (zoneMaps == null) {
+            zoneMaps = new HashMap<>();
+        }
+        ZoneMap zoneMap = new ZoneMap(this, column, chunkSize);
+        zoneMaps.put(column, zoneMap);
+        addRowListener(zoneMap);
+        return this;
+    }
+
+    /**
+     * Removes the zone map of the specified column, if any.
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     */
+    public DataModel removeZoneMap(String column) {
+        ZoneMap zoneMap = zoneMaps == null ? null : zoneMaps.remove(column);
+        if (zoneMap != null) {
+            removeRowListener(zoneMap);
+            if (zoneMaps.isEmpty()) {
+                zoneMaps = null;
             }
         }
-        return null;
+        return this;
     }
 
     /**
-     * Searches for rows that match all the given conditions (treated as AND conditions) and returns 
-     * the indexes of the matched rows as a list.
-     * 
-     * <p><b>Example:</b></p>
-     * <pre>
-     * Condition cond1 = new Condition("column1", "value1");
-     * Condition cond2 = new Condition("column2", "value2");
-     * 
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with columns and rows of data]
-     * List&lt;Integer&gt; matchedIndexes = dataModel.searchRowIndexes(cond1, cond2);
-     * System.out.println("Matching row indexes: " + matchedIndexes);
-     * </pre>
-     * 
-     * <p><b>Note:</b></p>
-     * <ul>
-     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * </ul>
+     * Adds a text index for prefix searches to the specified column.
      *
-     * @param conditions Varargs of conditions to be used for matching rows.
-     * @return A list of indexes for the rows that match all conditions.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * <p>Functionally identical to {@link #addTextIndex(String, boolean)} without substring search.</p>
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
      */
-    public List<Integer> searchRowIndexes(Condition... conditions) {
-        return searchRowIndexes(true, conditions);
+    public DataModel addTextIndex(String column) {
+        return addTextIndex(column, false);
     }
 
     /**
-     * Searches for rows that match (or do not match, based on the {@code bool} parameter) all the given 
-     * conditions (treated as AND conditions) and returns the indexes of those rows as a list.
-     * 
-     * <p>If {@code bool} is set to {@code true}, the method will return the indexes of rows that 
-     * match all conditions. If set to {@code false}, the method will return the indexes of rows 
-     * that do not match any of the conditions.</p>
-     * 
+     * Adds a text index to the specified column, so that searches with a {@link TextMatch} condition on the
+     * column, such as {@link Condition#startsWith(String, String)}, read only the matching rows.
+     *
+     * <p>The index keeps the distinct values of the column in sorted order, which answers prefix searches.
+     * With {@code substring} set, it also keeps the trigrams of every distinct value, which answers
+     * {@link Condition#contains(String, String)} searches of three or more characters; shorter texts, and
+     * substring searches without trigrams, are checked against the distinct values instead of the rows.
+     * Appending rows and changing values update the index in place; inserting or removing rows before the
+     * end, sorting or changing the columns cause it to be rebuilt by the next search.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Condition cond1 = new Condition("column1", "value1");
-     * Condition cond2 = new Condition("column2", "value2");
-     * 
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with columns and rows of data]
-     * List&lt;Integer&gt; matchedIndexes = dataModel.searchRowIndexes(true, cond1, cond2);
-     * System.out.println("Matching row indexes: " + matchedIndexes);
+     * codeDm.addTextIndex("name", true);
+     * List&lt;HashMap&lt;String, Object&gt;&gt; suggestions = codeDm.searchRows(Condition.contains("name", keyword));
      * </pre>
-     * 
-     * <p><b>Note:</b></p>
-     * <ul>
-     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * </ul>
      *
-     * @param bool If {@code true}, return indexes of rows that match all conditions. If {@code false}, return indexes of rows that do not match any of the conditions.
-     * @param conditions Varargs of conditions to be used for matching rows.
-     * @return A list of indexes for the rows based on the conditions and the value of {@code bool}.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * @param column The name of the column.
+     * @param substring If true, substring searches are indexed as well, at the cost of more memory.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
      */
-    public List<Integer> searchRowIndexes(boolean bool, Condition... conditions) {
-        List<Integer> matchedIndexes = new ArrayList<>();
-        HashMap<String, Object> row;
-        boolean matchesAll;
-
-        for (int i = 0; i < rows.size(); i++) {
-            row = rows.get(i);
-            matchesAll = true;
-
-            for (Condition condition : conditions) {
-                for (Map.Entry<String, Object> entry : condition.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-                    if (!row.containsKey(key)) {
-                        throw new DataException("Column " + key + " does not exist.");
-                    }
-                    if(row.get(key) == null) {
-                        if(value != null) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                    else {
-                        if (!row.get(key).equals(value)) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                }
-                if (!matchesAll) break;
-            }
+    public DataModel addTextIndex(String column, boolean substring) {
+        checkNotSlice();
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        removeTextIndex(column);
+        if (textIndexes == null) {
+            textIndexes = new HashMap<>();
+        }
+        TextIndex textIndex = new TextIndex(this, column, substring);
+        textIndexes.put(column, textIndex);
+        addRowListener(textIndex);
+        return this;
+    }
 
-            if ((bool && matchesAll) || (!bool && !matchesAll)) {
-                matchedIndexes.add(i);
+    /**
+     * Removes the text index of the specified column, if any.
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     */
+    public DataModel removeTextIndex(String column) {
+        TextIndex textIndex = textIndexes == null ? null : textIndexes.remove(column);
+        if (textIndex != null) {
+            removeRowListener(textIndex);
+            if (textIndexes.isEmpty()) {
+                textIndexes = null;
             }
         }
-        return (List<Integer>) matchedIndexes;
+        return this;
     }
 
     /**
-     * Searches for rows that match all the given conditions (treated as AND conditions) and returns 
-     * the matched rows as a list.
-     * 
-     * <p><b>Example:</b></p>
-     * <pre>
-     * Condition cond1 = new Condition("column1", "value1");
-     * Condition cond2 = new Condition("column2", "value2");
-     * 
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with columns and rows of data]
-     * List&lt;HashMap&lt;String, Object&gt;&gt; matchedRows = dataModel.searchRows(cond1, cond2);
-     * System.out.println("Matching rows: " + matchedRows);
-     * </pre>
-     * 
-     * <p><b>Note:</b></p>
-     * <ul>
-     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * </ul>
+     * Adds a case-insensitive index to the specified column.
      *
-     * @param conditions Varargs of conditions to be used for matching rows.
-     * @return A list of rows that match all conditions.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * <p>Functionally identical to {@link #addNormalizedIndex(String, TextNormalizer)} with
+     * {@link TextNormalizer#caseInsensitive()}.</p>
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
      */
-    public List<HashMap<String, Object>> searchRows(Condition... conditions) {
-        return searchRows(true, conditions);
+    public DataModel addCaseInsensitiveIndex(String column) {
+        return addNormalizedIndex(column, TextNormalizer.caseInsensitive());
     }
 
     /**
-     * Searches for rows that match (or do not match, based on the {@code bool} parameter) all the given 
-     * conditions (treated as AND conditions) and returns the matched rows as a list.
-     * 
-     * <p>If {@code bool} is set to {@code true}, the method will return the rows that 
-     * match all conditions. If set to {@code false}, the method will return the rows 
-     * that do not match any of the conditions.</p>
-     * 
+     * Adds an index of the normalized values to the specified column, so that searches with a
+     * {@link NormalizedMatch} condition of the same normalizer on the column, such as
+     * {@link Condition#equalsIgnoreCase(String, Object)}, read only the matching rows.
+     *
+     * <p>Every value is normalized once when it is indexed, instead of once per row and search. Searches for a
+     * plain value on the column use the index as well, reading only the rows whose value has the same key.
+     * A column has at most one normalized index; adding another one replaces it. Appending rows and changing
+     * values update the index in place; inserting or removing rows before the end, sorting or changing the
+     * columns cause it to be rebuilt by the next search.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Condition cond1 = new Condition("column1", "value1");
-     * Condition cond2 = new Condition("column2", "value2");
-     * 
-     * dataModel dataModel = new dataModel();
-     * // ... [Populate the data model with columns and rows of data]
-     * List&lt;HashMap&lt;String, Object&gt;&gt; matchedRows = dataModel.searchRows(true, cond1, cond2);
-     * System.out.println("Matching rows: " + matchedRows);
+     * TextNormalizer normalizer = TextNormalizer.nfcCaseInsensitive();
+     * codeDm.addNormalizedIndex("name", normalizer);
+     * List&lt;HashMap&lt;String, Object&gt;&gt; found = codeDm.searchRows(Condition.equalsNormalized("name", keyword, normalizer));
      * </pre>
-     * 
-     * <p><b>Note:</b></p>
-     * <ul>
-     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * </ul>
      *
-     * @param bool If {@code true}, return rows that match all conditions. If {@code false}, return rows that do not match any of the conditions.
-     * @param conditions Varargs of conditions to be used for matching rows.
-     * @return A list of rows based on the conditions and the value of {@code bool}.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * @param column The name of the column.
+     * @param normalizer The normalizer of the values.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel, or if the normalizer is null.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
      */
-    public List<HashMap<String, Object>> searchRows(Boolean bool, Condition... conditions) {
-        List<HashMap<String, Object>> matchedRows = new ArrayList<>();
-        HashMap<String, Object> row;
-        boolean matchesAll;
+    public DataModel addNormalizedIndex(String column, TextNormalizer normalizer) {
+        checkNotSlice();
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        if (normalizer == null) {
+            throw new DataException("The normalizer must not be null.");
+        }
+        removeNormalizedIndex(column);
+        if (normalizedIndexes == null) {
+            normalizedIndexes = new HashMap<>();
+        }
+        NormalizedIndex normalizedIndex = new NormalizedIndex(this, column, normalizer);
+        normalizedIndexes.put(column, normalizedIndex);
+        addRowListener(normalizedIndex);
+        return this;
+    }
 
-        for (int i = 0; i < rows.size(); i++) {
-            row = rows.get(i);
-            matchesAll = true;
+    /**
+     * Removes the normalized index of the specified column, if any.
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     */
+    public DataModel removeNormalizedIndex(String column) {
+        NormalizedIndex normalizedIndex = normalizedIndexes == null ? null : normalizedIndexes.remove(column);
+        if (normalizedIndex != null) {
+            removeRowListener(normalizedIndex);
+            if (normalizedIndexes.isEmpty()) {
+                normalizedIndexes = null;
+            }
+        }
+        return this;
+    }
 
-            for (Condition condition : conditions) {
-                for (Map.Entry<String, Object> entry : condition.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-                    if (!row.containsKey(key)) {
-                        throw new DataException("Column " + key + " does not exist.");
-                    }
-                    if(row.get(key) == null) {
-                        if(value != null) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                    else {
-                        if (!row.get(key).equals(value)) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
+    /**
+     * Adds a Bloom filter with a false positive rate of 1% to the specified column.
+     *
+     * <p>Functionally identical to {@link #addBloomFilter(String, double)} with a rate of 0.01.</p>
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
+     */
+    public DataModel addBloomFilter(String column) {
+        return addBloomFilter(column, 0.01);
+    }
+
+    /**
+     * Adds a Bloom filter to the specified column, so that {@link #containsValue(String, Object)} answers
+     * for most absent values without reading the rows.
+     *
+     * <p>The filter is built from the current rows and kept current as rows are added and values are changed.
+     * Removed and overwritten values stay in the filter until it is rebuilt, which happens automatically once
+     * they are numerous, after the rows are reset, and when the filter has grown past its capacity.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.addBloomFilter("deptcode", 0.001);
+     * if (originalDm.containsValue("deptcode", "A01")) {
+     *     // ...
+     * }
+     * </pre>
+     *
+     * @param column The name of the column.
+     * @param falsePositiveRate The probability, between 0 and 1 exclusive, that an absent value is not
+     *                          recognized as absent by the filter and the rows have to be read.
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if the specified column does not exist in the DataModel or the rate is out of range.
+     * @throws DataException if this DataModel is a slice (see {@link #slice(int, int)}).
+     */
+    public DataModel addBloomFilter(String column, double falsePositiveRate) {
+        checkNotSlice();
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new DataException("The false positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        removeBloomFilter(column);
+        if (bloomIndexes == null) {
+            bloomIndexes = new HashMap<>();
+        }
+        BloomIndex bloomIndex = new BloomIndex(this, column, falsePositiveRate);
+        bloomIndexes.put(column, bloomIndex);
+        addRowListener(bloomIndex);
+        return this;
+    }
+
+    /**
+     * Removes the Bloom filter of the specified column, if any.
+     *
+     * @param column The name of the column.
+     * @return The current instance of the DataModel for chaining methods.
+     */
+    public DataModel removeBloomFilter(String column) {
+        BloomIndex bloomIndex = bloomIndexes == null ? null : bloomIndexes.remove(column);
+        if (bloomIndex != null) {
+            removeRowListener(bloomIndex);
+            if (bloomIndexes.isEmpty()) {
+                bloomIndexes = null;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Checks whether any row has the given value in the specified column, with the same matching rules as
+     * {@link #searchRows(Condition...)}.
+     *
+     * <p>If the column has a Bloom filter (see {@link #addBloomFilter(String, double)}), an absent value is
+     * usually recognized without reading the rows. If the column statistics are tracked (see
+     * {@link #getColumnStats(String)}), a value outside the range of the column or a null value in a column
+     * without nulls is recognized as well. If the column has a text or normalized index that answers the value,
+     * only the rows found by the index are read. Otherwise, the rows are read until the value is found.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * boolean exists = originalDm.containsValue("deptcode", "A01");
+     * </pre>
+     *
+     * @param column The name of the column.
+     * @param value The value to look for; null looks for a null value.
+     * @return True if at least one row has the value in the column, otherwise false.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     */
+    public boolean containsValue(String column, Object value) {
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        if (value != null && !(value instanceof ValueMatcher)) {
+            BloomIndex bloomIndex = bloomIndexes == null ? null : bloomIndexes.get(column);
+            if (bloomIndex != null && !bloomIndex.mightContain(value)) {
+                return false;
+            }
+        }
+        if (columnStatistics != null && columnStatistics.excludes(column, value)) {
+            return false;
+        }
+        Condition condition = new Condition(column, value);
+        int[] indexedRows = getIndexedRows(column, value);
+        if (indexedRows != null) {
+            for (int i : indexedRows) {
+                if (condition.test(rows.get(i))) {
+                    return true;
                 }
-                if (!matchesAll) break;
             }
+            return false;
+        }
+        for (HashMap<String, Object> row : rows) {
+            if (condition.test(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-            if ((bool && matchesAll) || (!bool && !matchesAll)) {
-                matchedRows.add(new HashMap<String, Object>(row));
+    /**
+     * Builds a HyperLogLog sketch of the distinct non-null values of the specified column in one pass.
+     *
+     * <p>The sketch uses one byte per register regardless of the number of rows, and sketches of several
+     * DataModels can be merged with {@link HyperLogLog#merge(HyperLogLog)} to estimate the distinct count of
+     * their combined rows. Values are hashed by their string form.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * HyperLogLog users = dataModel1.getDistinctCountSketch("userId");
+     * users.merge(dataModel2.getDistinctCountSketch("userId"));
+     * long distinctUsers = users.estimate();
+     * </pre>
+     *
+     * @param column The name of the column to sketch.
+     * @return A new {@link HyperLogLog} with the {@link HyperLogLog#DEFAULT_PRECISION default precision}.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     */
+    public HyperLogLog getDistinctCountSketch(String column) {
+        return getDistinctCountSketch(column, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Builds a HyperLogLog sketch of the distinct non-null values of the specified column in one pass.
+     *
+     * <p>Functionally identical to {@link #getDistinctCountSketch(String)}, but with the given precision.
+     * Only sketches with the same precision can be merged.</p>
+     *
+     * @param column The name of the column to sketch.
+     * @param precision The number of hash bits used to select a register, between 4 and 18.
+     * @return A new {@link HyperLogLog}.
+     * @throws DataException if the specified column does not exist in the DataModel or the precision is out of range.
+     */
+    public HyperLogLog getDistinctCountSketch(String column, int precision) {
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        HyperLogLog sketch = new HyperLogLog(precision);
+        for (HashMap<String, Object> row : rows) {
+            sketch.add(row.get(column));
+        }
+        return sketch;
+    }
+
+    /**
+     * Returns the estimated number of distinct non-null values of the specified column.
+     *
+     * <p>Unlike {@link #isNotDuplColumn(String)}, the values are not collected in a set; the estimate has a
+     * relative standard error of about 0.81%.</p>
+     *
+     * @param column The name of the column.
+     * @return The estimated distinct count.
+     * @throws DataException if the specified column does not exist in the DataModel.
+     */
+    public long getApproxDistinctCount(String column) {
+        return getDistinctCountSketch(column).estimate();
+    }
+
+    /**
+     * Builds a quantile sketch of the non-null values of the specified column in one pass.
+     *
+     * <p>The sketch holds a bounded number of values regardless of the number of rows, and sketches of several
+     * DataModels can be merged with {@link QuantileSketch#merge(QuantileSketch)}.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * QuantileSketch latency = dataModel.getQuantileSketch("latency");
+     * double p50 = latency.getQuantile(0.5);
+     * double p99 = latency.getQuantile(0.99);
+     * </pre>
+     *
+     * @param column The name of the column to sketch.
+     * @return A new {@link QuantileSketch} with the {@link QuantileSketch#DEFAULT_K default k}.
+     * @throws DataException if the specified column does not exist in the DataModel,
+     *                       or if a non-null value cannot be converted to a number.
+     */
+    public QuantileSketch getQuantileSketch(String column) {
+        return getQuantileSketch(column, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Builds a quantile sketch of the non-null values of the specified column in one pass.
+     *
+     * <p>Functionally identical to {@link #getQuantileSketch(String)}, but with the given k.
+     * Only sketches with the same k can be merged.</p>
+     *
+     * @param column The name of the column to sketch.
+     * @param k The size of the top level of the sketch; larger values are more accurate and use more memory.
+     * @return A new {@link QuantileSketch}.
+     * @throws DataException if the specified column does not exist in the DataModel, if k is less than 8,
+     *                       or if a non-null value cannot be converted to a number.
+     */
+    public QuantileSketch getQuantileSketch(String column, int k) {
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        QuantileSketch sketch = new QuantileSketch(k);
+        NumericValue number = new NumericValue();
+        for (HashMap<String, Object> row : rows) {
+            Object value = row.get(column);
+            if (value == null) {
+                continue;
             }
+            if (!number.parse(value)) {
+                throw new DataException("Cannot convert string to number. Column: " + column);
+            }
+            sketch.add(number.doubleValue());
         }
-        return (List<HashMap<String, Object>>) matchedRows;
+        return sketch;
     }
 
     /**
-     * Searches for rows that match all the provided conditions (treated as AND conditions) 
-     * and returns the matched rows encapsulated in a new {@link DataModel}.
+     * Validates all non-null values of a specified column using a provided validator.
      * 
      * <p><b>Example:</b></p>
      * <pre>
-     * Condition cond1 = new Condition("column1", "value1");
-     * Condition cond2 = new Condition("column2", "value2");
+     * Predicate&lt;Object&gt; isEmail = value -&gt; {
+     *     if (!(value instanceof String)) return false;
+     *     String stringValue = (String) value;
+     *     String emailPattern = "^[\\w.-]+@([\\w\\-]+\\.)+[A-Za-z]{2,4}$";
+     *     return stringValue.matches(emailPattern);
+     * };
      * 
      * dataModel dataModel = new dataModel();
      * // ... [Populate the data model with columns and rows of data]
-     * dataModel matchedDataModel = dataModel.searchRowsAsDataModel(cond1, cond2);
-     * System.out.println("Matched DataModel: " + matchedDataModel);
+     * if (dataModel.isValidValue("emailColumn", isEmail)) {
+     *     System.out.println("All emails are valid.");
+     * } else {
+     *     System.out.println("There is an invalid email.");
+     * }
      * </pre>
-     * 
+     *
      * <p><b>Note:</b></p>
      * <ul>
-     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * <li>If the specified column does not exist in the DataModel, a {@link DataException} will be thrown.</li>
      * </ul>
      *
-     * @param conditions Varargs of conditions to be used for matching rows.
-     * @return A new {@link DataModel} containing rows that match all provided conditions.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * @param column The name of the column to validate.
+     * @param validator A predicate that defines the validation criteria.
+     * @return True if all non-null values of the specified column are valid, otherwise false.
+     * @throws DataException if the specified column does not exist in the DataModel.
      */
-    public DataModel searchRowsAsDataModel(Condition... conditions) {
-        return searchRowsAsDataModel(true, conditions);
+    public boolean isValidValue(String column, Predicate<Object> validator) {
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+        for (HashMap<String, Object> row : rows) {
+            Object value = row.get(column);
+            if (value != null && !validator.test(value)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Searches for rows that match (or do not match, based on the {@code bool} parameter) 
-     * all the provided conditions (treated as AND conditions) and returns the matched rows 
-     * encapsulated in a new {@link DataModel}.
-     * 
-     * <p>If {@code bool} is set to {@code true}, the method will return the rows that 
-     * match all conditions. If set to {@code false}, the method will return the rows 
-     * that do not match any of the conditions.</p>
+     * Finds and returns the first row with an invalid value for the specified column using a provided validator.
      * 
      * <p><b>Example:</b></p>
      * <pre>
-     * Condition cond1 = new Condition("column1", "value1");
-     * Condition cond2 = new Condition("column2", "value2");
+     * Predicate&lt;Object&gt; isEmail = value -&gt; {
+     *     if (!(value instanceof String)) return false;
+     *     String stringValue = (String) value;
+     *     String emailPattern = "^[\\w.-]+@([\\w\\-]+\\.)+[A-Za-z]{2,4}$";
+     *     return stringValue.matches(emailPattern);
+     * };
      * 
      * dataModel dataModel = new dataModel();
      * // ... [Populate the data model with columns and rows of data]
-     * dataModel matchedDataModel = dataModel.searchRowsAsDataModel(true, cond1, cond2);
-     * System.out.println("Matched DataModel: " + matchedDataModel);
+     * HashMap&lt;String, Object&gt; firstInvalidRow = dataModel.findFirstRowInvalidValue("emailColumn", isEmail);
+     * if (firstInvalidRow != null) {
+     *     System.out.println("Row containing the first invalid email: " + firstInvalidRow);
+     * } else {
+     *     System.out.println("All emails are valid.");
+     * }
      * </pre>
-     * 
+     *
      * <p><b>Note:</b></p>
      * <ul>
-     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * <li>If the specified column does not exist in the DataModel, a {@link DataException} will be thrown.</li>
      * </ul>
      *
-     * @param bool If {@code true}, return rows that match all conditions. If {@code false}, return rows that do not match any of the conditions.
-     * @param conditions Varargs of conditions to be used for matching rows.
-     * @return A new {@link DataModel} containing rows based on the conditions and the value of {@code bool}.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * @param column The name of the column to validate.
+     * @param validator A predicate that defines the validation criteria.
+     * @return The first row with an invalid value for the specified column, or null if all values are valid.
+     * @throws DataException if the specified column does not exist in the DataModel.
      */
-    public DataModel searchRowsAsDataModel(Boolean bool, Condition... conditions) {
-        DataModel matchedDm = new DataModel(this.cols);
-        HashMap<String, Object> row;
-        boolean matchesAll;
-
+    public HashMap<String, Object> findFirstRowInvalidValue(String column, Predicate<Object> validator) {
+        if (!hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
         for (int i = 0; i < rows.size(); i++) {
-            row = rows.get(i);
-            matchesAll = true;
-
-            for (Condition condition : conditions) {
-                for (Map.Entry<String, Object> entry : condition.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-                    if (!row.containsKey(key)) {
-                        throw new DataException("Column " + key + " does not exist.");
-                    }
-                    if(row.get(key) == null) {
-                        if(value != null) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                    else {
-                        if (!row.get(key).equals(value)) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                }
-                if (!matchesAll) break;
-            }
-
-            if ((bool && matchesAll) || (!bool && !matchesAll)) {
-                matchedDm.addRow(new HashMap<String, Object>(row));
+            HashMap<String, Object> row = rows.get(i);
+            Object value = row.get(column);
+            if (value != null && !validator.test(value)) {
+                return getRow(i);
             }
         }
-        return matchedDm;
+        return null;
     }
 
     /**
-     * Filters the current {@link DataModel} based on the provided conditions (treated as AND conditions), 
-     * retaining only the rows that match all conditions. The DataModel is modified in place.
+     * Searches for rows that match all the given conditions (treated as AND conditions) and returns 
+     * the indexes of the matched rows as a list.
      * 
      * <p><b>Example:</b></p>
      * <pre>
@@ -2501,26 +3369,216 @@ public final class DataModel implements Cloneable{
      * 
      * dataModel dataModel = new dataModel();
      * // ... [Populate the data model with columns and rows of data]
-     * dataModel.searchAndModify(cond1, cond2);
-     * System.out.println("Filtered DataModel: " + dataModel);
+     * List&lt;Integer&gt; matchedIndexes = dataModel.searchRowIndexes(cond1, cond2);
+     * System.out.println("Matching row indexes: " + matchedIndexes);
      * </pre>
      * 
      * <p><b>Note:</b></p>
      * <ul>
      * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
-     * <li>This operation modifies the original DataModel.</li>
      * </ul>
      *
-     * @param conditions Varargs of conditions to be used for filtering rows.
-     * @return The modified {@link DataModel} containing rows that match all provided conditions.
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A list of indexes for the rows that match all conditions.
      * @throws DataException if a column from the conditions does not exist in the DataModel.
      */
-    public DataModel searchAndModify(Condition... conditions) {
-        return searchAndModify(true, conditions);
+    public List<Integer> searchRowIndexes(Condition... conditions) {
+        return searchRowIndexes(true, conditions);
     }
 
     /**
-     * Filters the current {@link DataModel} based on the provided conditions (treated as AND conditions) and the value of {@code bool}, 
+     * Searches for rows that match (or do not match, based on the {@code bool} parameter) all the given 
+     * conditions (treated as AND conditions) and returns the indexes of those rows as a list.
+     * 
+     * <p>If {@code bool} is set to {@code true}, the method will return the indexes of rows that 
+     * match all conditions. If set to {@code false}, the method will return the indexes of rows 
+     * that do not match any of the conditions.</p>
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Condition cond1 = new Condition("column1", "value1");
+     * Condition cond2 = new Condition("column2", "value2");
+     * 
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with columns and rows of data]
+     * List&lt;Integer&gt; matchedIndexes = dataModel.searchRowIndexes(true, cond1, cond2);
+     * System.out.println("Matching row indexes: " + matchedIndexes);
+     * </pre>
+     * 
+     * <p><b>Note:</b></p>
+     * <ul>
+     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * </ul>
+     *
+     * @param bool If {@code true}, return indexes of rows that match all conditions. If {@code false}, return indexes of rows that do not match any of the conditions.
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A list of indexes for the rows based on the conditions and the value of {@code bool}.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public List<Integer> searchRowIndexes(boolean bool, Condition... conditions) {
+        List<Integer> matchedIndexes = new ArrayList<>();
+        forEachSearchResult(bool, conditions, matchedIndexes::add);
+        return matchedIndexes;
+    }
+
+    /**
+     * Searches for rows that match all the given conditions (treated as AND conditions) and returns 
+     * the matched rows as a list.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Condition cond1 = new Condition("column1", "value1");
+     * Condition cond2 = new Condition("column2", "value2");
+     * 
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with columns and rows of data]
+     * List&lt;HashMap&lt;String, Object&gt;&gt; matchedRows = dataModel.searchRows(cond1, cond2);
+     * System.out.println("Matching rows: " + matchedRows);
+     * </pre>
+     * 
+     * <p><b>Note:</b></p>
+     * <ul>
+     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * </ul>
+     *
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A list of rows that match all conditions.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public List<HashMap<String, Object>> searchRows(Condition... conditions) {
+        return searchRows(true, conditions);
+    }
+
+    /**
+     * Searches for rows that match (or do not match, based on the {@code bool} parameter) all the given 
+     * conditions (treated as AND conditions) and returns the matched rows as a list.
+     * 
+     * <p>If {@code bool} is set to {@code true}, the method will return the rows that 
+     * match all conditions. If set to {@code false}, the method will return the rows 
+     * that do not match any of the conditions.</p>
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Condition cond1 = new Condition("column1", "value1");
+     * Condition cond2 = new Condition("column2", "value2");
+     * 
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with columns and rows of data]
+     * List&lt;HashMap&lt;String, Object&gt;&gt; matchedRows = dataModel.searchRows(true, cond1, cond2);
+     * System.out.println("Matching rows: " + matchedRows);
+     * </pre>
+     * 
+     * <p><b>Note:</b></p>
+     * <ul>
+     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * </ul>
+     *
+     * @param bool If {@code true}, return rows that match all conditions. If {@code false}, return rows that do not match any of the conditions.
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A list of rows based on the conditions and the value of {@code bool}.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public List<HashMap<String, Object>> searchRows(Boolean bool, Condition... conditions) {
+        List<HashMap<String, Object>> matchedRows = new ArrayList<>();
+        forEachSearchResult(bool, conditions, i -> matchedRows.add(new HashMap<String, Object>(rows.get(i))));
+        return matchedRows;
+    }
+
+    /**
+     * Searches for rows that match all the provided conditions (treated as AND conditions) 
+     * and returns the matched rows encapsulated in a new {@link DataModel}.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Condition cond1 = new Condition("column1", "value1");
+     * Condition cond2 = new Condition("column2", "value2");
+     * 
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with columns and rows of data]
+     * dataModel matchedDataModel = dataModel.searchRowsAsDataModel(cond1, cond2);
+     * System.out.println("Matched DataModel: " + matchedDataModel);
+     * </pre>
+     * 
+     * <p><b>Note:</b></p>
+     * <ul>
+     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * </ul>
+     *
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A new {@link DataModel} containing rows that match all provided conditions.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public DataModel searchRowsAsDataModel(Condition... conditions) {
+        return searchRowsAsDataModel(true, conditions);
+    }
+
+    /**
+     * Searches for rows that match (or do not match, based on the {@code bool} parameter) 
+     * all the provided conditions (treated as AND conditions) and returns the matched rows 
+     * encapsulated in a new {@link DataModel}.
+     * 
+     * <p>If {@code bool} is set to {@code true}, the method will return the rows that 
+     * match all conditions. If set to {@code false}, the method will return the rows 
+     * that do not match any of the conditions.</p>
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Condition cond1 = new Condition("column1", "value1");
+     * Condition cond2 = new Condition("column2", "value2");
+     * 
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with columns and rows of data]
+     * dataModel matchedDataModel = dataModel.searchRowsAsDataModel(true, cond1, cond2);
+     * System.out.println("Matched DataModel: " + matchedDataModel);
+     * </pre>
+     * 
+     * <p><b>Note:</b></p>
+     * <ul>
+     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * </ul>
+     *
+     * @param bool If {@code true}, return rows that match all conditions. If {@code false}, return rows that do not match any of the conditions.
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A new {@link DataModel} containing rows based on the conditions and the value of {@code bool}.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public DataModel searchRowsAsDataModel(Boolean bool, Condition... conditions) {
+        DataModel matchedDm = new DataModel(this.cols);
+        forEachSearchResult(bool, conditions, i -> matchedDm.addRow(new HashMap<String, Object>(rows.get(i))));
+        return matchedDm;
+    }
+
+    /**
+     * Filters the current {@link DataModel} based on the provided conditions (treated as AND conditions), 
+     * retaining only the rows that match all conditions. The DataModel is modified in place.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Condition cond1 = new Condition("column1", "value1");
+     * Condition cond2 = new Condition("column2", "value2");
+     * 
+     * dataModel dataModel = new dataModel();
+     * // ... [Populate the data model with columns and rows of data]
+     * dataModel.searchAndModify(cond1, cond2);
+     * System.out.println("Filtered DataModel: " + dataModel);
+     * </pre>
+     * 
+     * <p><b>Note:</b></p>
+     * <ul>
+     * <li>If a specified column from the conditions does not exist in the DataModel, a {@link DataException} will be thrown.</li>
+     * <li>This operation modifies the original DataModel.</li>
+     * </ul>
+     *
+     * @param conditions Varargs of conditions to be used for filtering rows.
+     * @return The modified {@link DataModel} containing rows that match all provided conditions.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public DataModel searchAndModify(Condition... conditions) {
+        return searchAndModify(true, conditions);
+    }
+
+    /**
+     * Filters the current {@link DataModel} based on the provided conditions (treated as AND conditions) and the value of {@code bool}, 
      * retaining only the rows that match (or do not match, based on the {@code bool} parameter) all conditions. 
      * The DataModel is modified in place.
      * 
@@ -2545,158 +3603,668 @@ public final class DataModel implements Cloneable{
      * <li>This operation modifies the original DataModel.</li>
      * </ul>
      *
-     * @param bool If {@code true}, retain rows that match all conditions. If {@code false}, retain rows that do not match any of the conditions.
-     * @param conditions Varargs of conditions to be used for filtering rows.
-     * @return The modified {@link DataModel} containing rows based on the conditions and the value of {@code bool}.
-     * @throws DataException An error occurs if changes cannot be made through setFreeze.
-     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     * @param bool If {@code true}, retain rows that match all conditions. If {@code false}, retain rows that do not match any of the conditions.
+     * @param conditions Varargs of conditions to be used for filtering rows.
+     * @return The modified {@link DataModel} containing rows based on the conditions and the value of {@code bool}.
+     * @throws DataException An error occurs if changes cannot be made through setFreeze.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public DataModel searchAndModify(Boolean bool, Condition... conditions) {
+        if(freezeValues) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
+        List<Condition> conditionList = Arrays.asList(conditions);
+        retainRows(row -> matchesConditions(row, conditionList) == bool);
+        return this;
+    }
+
+    /**
+     * Returns the indices of rows that satisfy the provided filter predicate.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; ageFilter = row -&gt; {
+     *     if (row.containsKey("age") &amp;&amp; row.get("age") instanceof Number) {
+     *         return ((Number) row.get("age")).intValue() &gt;= 30;
+     *     }
+     *     return false;
+     * };
+     * List&lt;Integer&gt; matchedIndexes = originalDm.filterRowIndexes(ageFilter);
+     * </pre>
+     *
+     * @param filter The filter predicate to test each row.
+     * @return List of integers representing the indices of matched rows.
+     */
+    public List<Integer> filterRowIndexes(Predicate<HashMap<String, Object>> filter) {
+        List<Integer> matchedIndexes = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (filter.test(rows.get(i))) {
+                matchedIndexes.add(i);
+            }
+        }
+        return matchedIndexes;
+    }
+
+    /**
+     * Returns a list of rows that satisfy the provided filter predicate.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; nameFilter = row -&gt; "John".equals(row.get("name"));
+     * List&lt;HashMap&lt;String, Object&gt;&gt; matchedRows = originalDm.filterRows(nameFilter);
+     * </pre>
+     *
+     * @param filter The filter predicate to test each row.
+     * @return List of rows that match the filter condition.
+     */
+    public List<HashMap<String, Object>> filterRows(Predicate<HashMap<String, Object>> filter) {
+        List<HashMap<String, Object>> matchedRows = new ArrayList<>();
+        for (HashMap<String, Object> row : rows) {
+            if (filter.test(row)) {
+                matchedRows.add(new HashMap<String, Object>(row));
+            }
+        }
+        return matchedRows;
+    }
+
+    /**
+     * Filters the current {@link DataModel} based on the provided filter predicate and 
+     * returns a new {@link DataModel} containing only the rows that satisfy the filter.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; ageFilter = row -&gt; {
+     *     if (row.containsKey("age") &amp;&amp; row.get("age") instanceof Number) {
+     *         return ((Number) row.get("age")).intValue() &gt;= 30;
+     *     }
+     *     return false;
+     * };
+     * dataModel filteredDm = originalDm.filterRowsAsDataModel(ageFilter);
+     * </pre>
+     *
+     * @param filter The filter predicate to test each row.
+     * @return A new {@link DataModel} containing rows that match the filter condition.
+     */
+    public DataModel filterRowsAsDataModel(Predicate<HashMap<String, Object>> filter) {
+        DataModel matchedDm = new DataModel(this.cols);
+        for (HashMap<String, Object> row : rows) {
+            if (filter.test(row)) {
+                matchedDm.addRow(new HashMap<String, Object>(row));
+            }
+        }
+        return matchedDm;
+    }
+
+    /**
+     * Filters the current {@link DataModel} based on the provided filter predicate. 
+     * Only rows that satisfy the filter condition are retained. The DataModel is modified in place.
+     * 
+     * <p><b>Example:</b></p>
+     * <pre>
+     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; nameFilter = row -&gt; "John".equals(row.get("name"));
+     * originalDm.filterAndModify(nameFilter);
+     * </pre>
+     *
+     * <p><b>Note:</b> This operation modifies the original DataModel.</p>
+     *
+     * @param filter The filter predicate to test each row.
+     * @return The modified {@link DataModel} containing rows that match the filter condition.
+     * @throws DataException An error occurs if changes cannot be made through setFreeze.
+     */
+    public DataModel filterAndModify(Predicate<HashMap<String, Object>> filter) {
+        if(freezeValues) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
+        retainRows(filter);
+        return this;
+    }
+
+    /**
+     * Starts a lazy {@link DataQuery} over the rows of this DataModel.
+     *
+     * <p>Unlike chaining {@link #searchRowsAsDataModel(Condition...)}, {@link #setValidColumns(String...)} and
+     * {@link #sortRowAscending(String)}, the stages of the query are fused and executed in a single pass, and only
+     * the final result is materialized. The current DataModel is not modified.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * DataModel result = dataModel.query()
+     *         .where(new Condition("deptcode", "A01"))
+     *         .select("id", "membername")
+     *         .orderBy("membername")
+     *         .limit(20)
+     *         .toDataModel();
+     * </pre>
+     *
+     * @return A new {@link DataQuery} whose source is this DataModel.
+     */
+    public DataQuery query() {
+        return new DataQuery(this);
+    }
+
+    /**
+     * Groups the rows of this DataModel by the specified columns. The returned {@link GroupBy} computes
+     * aggregates such as counts, sums and averages per group in a single hash-based pass.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * DataModel summary = dataModel.groupBy("category")
+     *         .aggregate(Aggregate.count(), Aggregate.sum("amount"), Aggregate.avg("amount"));
+     * </pre>
+     *
+     * <p><b>Note:</b> The current DataModel is not modified. Without any column, all rows form a single group.</p>
+     *
+     * @param columns The names of the columns whose values form the group key.
+     * @return A {@link GroupBy} over this DataModel.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public GroupBy groupBy(String... columns) {
+        return new GroupBy(this, columns.clone());
+    }
+
+    /**
+     * Groups the rows of this DataModel by the specified columns.
+     *
+     * <p>Functionally identical to {@link #groupBy(String...)}, but accepts a List of column names.</p>
+     *
+     * @param columns The list of column names whose values form the group key.
+     * @return A {@link GroupBy} over this DataModel.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public GroupBy groupBy(List<String> columns) {
+        return new GroupBy(this, columns.toArray(new String[0]));
+    }
+
+    /**
+     * Creates a crosstab with one row per value of the row key column and one column per value of the pivot
+     * column, each cell holding the aggregate of the rows with that pair of values.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * // category | month | amount   -&gt;   category | 2024-01 | 2024-02 | ...
+     * DataModel crosstab = originalDm.pivot("category", "month", Aggregate.sum("amount"));
+     * </pre>
+     *
+     * <p>Rows and pivot columns are in order of first appearance, and the pivot columns are named after the
+     * string value of the pivot column. Rows with a null pivot value are ignored, and cells without any row
+     * are null. Counts, sums and averages are converted like the results of {@link GroupBy#aggregate(Aggregate...)}.
+     * The rows are read once and the result rows are created directly with their final columns.</p>
+     *
+     * @param rowKey The column whose values define the result rows.
+     * @param pivotColumn The column whose values define the result columns.
+     * @param aggregate The aggregate computed for each cell; its column is the value column.
+     * @return A new {@link DataModel} containing the crosstab.
+     * @throws DataException if any of the specified columns do not exist in the DataModel, if a result column
+     *                       name is duplicated, or if a value of a sum or average cannot be converted to a number.
+     */
+    public DataModel pivot(String rowKey, String pivotColumn, Aggregate aggregate) {
+        return Pivot.pivot(this, new String[] { rowKey }, pivotColumn, aggregate);
+    }
+
+    /**
+     * Creates a crosstab with one row per combination of values of the row key columns and one column per value
+     * of the pivot column, like {@link #pivot(String, String, Aggregate)}.
+     *
+     * @param rowKeys The columns whose values define the result rows.
+     * @param pivotColumn The column whose values define the result columns.
+     * @param aggregate The aggregate computed for each cell; its column is the value column.
+     * @return A new {@link DataModel} containing the crosstab.
+     * @throws DataException if any of the specified columns do not exist in the DataModel, if a result column
+     *                       name is duplicated, or if a value of a sum or average cannot be converted to a number.
+     */
+    public DataModel pivot(List<String> rowKeys, String pivotColumn, Aggregate aggregate) {
+        return Pivot.pivot(this, rowKeys.toArray(new String[0]), pivotColumn, aggregate);
+    }
+
+    /**
+     * Turns value columns into rows: for every row and every value column, the result contains one row with the
+     * id columns, the name of the value column in the column {@code name} and its value in the column {@code value}.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * // id | jan | feb   -&gt;   id | name | value
+     * DataModel longForm = originalDm.unpivot(Arrays.asList("id"), Arrays.asList("jan", "feb"));
+     * </pre>
+     *
+     * @param idColumns The columns copied to every result row.
+     * @param valueColumns The columns turned into rows.
+     * @return A new {@link DataModel} in long form.
+     * @throws DataException if any of the specified columns do not exist in the DataModel, or if a result column name is duplicated.
+     */
+    public DataModel unpivot(List<String> idColumns, List<String> valueColumns) {
+        return unpivot(idColumns, valueColumns, "name", "value");
+    }
+
+    /**
+     * Turns value columns into rows like {@link #unpivot(List, List)}, with the given names for the column holding
+     * the name of the value column and the column holding its value.
+     *
+     * @param idColumns The columns copied to every result row.
+     * @param valueColumns The columns turned into rows.
+     * @param nameColumn The name of the result column holding the name of the value column.
+     * @param valueColumn The name of the result column holding the value.
+     * @return A new {@link DataModel} in long form.
+     * @throws DataException if any of the specified columns do not exist in the DataModel, or if a result column name is duplicated.
+     */
+    public DataModel unpivot(List<String> idColumns, List<String> valueColumns, String nameColumn, String valueColumn) {
+        return Pivot.unpivot(this, idColumns.toArray(new String[0]), valueColumns.toArray(new String[0]),
+                nameColumn, valueColumn);
+    }
+
+    /**
+     * Creates a {@link Window} over the rows of this DataModel, partitioned by the specified columns and ordered
+     * by the specified sort keys, to compute window functions such as ranks, running sums and lag/lead values.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.window(Arrays.asList("dept", "team"), SortKey.desc("salary", true))
+     *         .add(WindowFunction.rank(), WindowFunction.runningSum("salary"));
+     * </pre>
+     *
+     * <p><b>Note:</b> Adding window functions appends columns to this DataModel. The order of its rows is not changed.</p>
+     *
+     * @param partitionBy The columns whose values define the partitions. An empty list makes one partition of all rows.
+     * @param orderBy The sort keys that order the rows within each partition.
+     * @return A new {@link Window} to add window functions to.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public Window window(List<String> partitionBy, SortKey... orderBy) {
+        return new Window(this, partitionBy.toArray(new String[0]), orderBy.clone());
+    }
+
+    /**
+     * Creates a {@link Window} over the rows of this DataModel, partitioned by one column and ordered by the
+     * specified sort keys.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.window("dept", SortKey.asc("regdate"))
+     *         .add(WindowFunction.rowNumber(), WindowFunction.lag("amount", 1), WindowFunction.movingAvg("amount", 7));
+     * </pre>
+     *
+     * @param partitionBy The column whose values define the partitions.
+     * @param orderBy The sort keys that order the rows within each partition.
+     * @return A new {@link Window} to add window functions to.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public Window window(String partitionBy, SortKey... orderBy) {
+        return new Window(this, new String[] { partitionBy }, orderBy.clone());
+    }
+
+    /**
+     * Creates a {@link Window} over all rows of this DataModel as a single partition, ordered by the specified
+     * sort keys.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.window(SortKey.asc("regdate")).add(WindowFunction.runningSum("amount"));
+     * </pre>
+     *
+     * @param orderBy The sort keys that order the rows.
+     * @return A new {@link Window} to add window functions to.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public Window window(SortKey... orderBy) {
+        return new Window(this, new String[0], orderBy.clone());
+    }
+
+    /**
+     * Creates a {@link FilterView} of the rows that satisfy the filter predicate. The view is kept up to date
+     * incrementally as rows are inserted, updated and removed, instead of filtering all rows on every read.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * FilterView adults = originalDm.createFilterView(row -&gt; row.get("age") != null);
+     * DataModel result = adults.toDataModel();
+     * </pre>
+     *
+     * <p><b>Note:</b> The view only observes changes made through the methods of this DataModel. The predicate
+     * must not modify the row.</p>
+     *
+     * @param filter The filter predicate to test each row.
+     * @return A new {@link FilterView} registered with this DataModel.
+     */
+    public FilterView createFilterView(Predicate<HashMap<String, Object>> filter) {
+        return new FilterView(this, filter);
+    }
+
+    /**
+     * Creates a {@link FilterView} of the rows that match all the given conditions (treated as AND conditions),
+     * with the same matching rules as {@link #searchRows(Condition...)}.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * FilterView deptA = originalDm.createFilterView(new Condition("deptcode", "A01"));
+     * </pre>
+     *
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return A new {@link FilterView} registered with this DataModel.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public FilterView createFilterView(Condition... conditions) {
+        List<Condition> conditionList = new ArrayList<>(Arrays.asList(conditions));
+        for (Condition condition : conditionList) {
+            for (String column : condition.keySet()) {
+                if (!hasColumn(column)) {
+                    throw new DataException("Column " + column + " does not exist.");
+                }
+            }
+        }
+        return new FilterView(this, row -> matchesConditions(row, conditionList));
+    }
+
+    /**
+     * Creates an {@link AggregateView} that groups the rows by the specified columns and computes the given
+     * aggregates, like {@link #groupBy(List)}. The view is kept up to date incrementally as rows are inserted,
+     * updated and removed.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * AggregateView summary = originalDm.createAggregateView(Arrays.asList("dept", "team"),
+     *         Aggregate.count(), Aggregate.avg("salary"));
+     * </pre>
+     *
+     * @param groupBy The columns whose values define the groups.
+     * @param aggregates The aggregates to compute.
+     * @return A new {@link AggregateView} registered with this DataModel.
+     * @throws DataException if any of the specified columns do not exist in the DataModel,
+     *                       or if a result column name is duplicated.
+     */
+    public AggregateView createAggregateView(List<String> groupBy, Aggregate... aggregates) {
+        return new AggregateView(this, groupBy.toArray(new String[0]), aggregates.clone());
+    }
+
+    /**
+     * Creates an {@link AggregateView} that groups the rows by one column and computes the given aggregates.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * AggregateView totals = originalDm.createAggregateView("category", Aggregate.sum("amount"));
+     * </pre>
+     *
+     * @param groupBy The column whose values define the groups.
+     * @param aggregates The aggregates to compute.
+     * @return A new {@link AggregateView} registered with this DataModel.
+     * @throws DataException if any of the specified columns do not exist in the DataModel,
+     *                       or if a result column name is duplicated.
+     */
+    public AggregateView createAggregateView(String groupBy, Aggregate... aggregates) {
+        return new AggregateView(this, new String[] { groupBy }, aggregates.clone());
+    }
+
+    /**
+     * Creates a {@link TopNView} of the first {@code n} rows in the order of the sort keys. The view is kept
+     * up to date incrementally as rows are inserted, updated and removed, without sorting the DataModel.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * TopNView latest = originalDm.createTopNView(20, SortKey.desc("regdate"));
+     * </pre>
+     *
+     * @param n The maximum number of rows in the view.
+     * @param keys The sort keys, from the most to the least significant.
+     * @return A new {@link TopNView} registered with this DataModel.
+     * @throws DataException If a column of the sort keys does not exist, if {@code n} is negative,
+     *                       or if mixed or unsupported types are encountered.
+     */
+    public TopNView createTopNView(int n, SortKey... keys) {
+        return new TopNView(this, n, keys.clone());
+    }
+
+    /**
+     * Joins this DataModel with another DataModel on equal values of the specified columns and returns the result
+     * as a new {@link DataModel}. The join uses a hash table built on the smaller of the two DataModels instead of
+     * comparing every pair of rows.
+     *
+     * <p>The result rows follow the order of the rows of this DataModel, and for each of them the order of the
+     * matching rows of the other DataModel. For {@link JoinType#INNER} and {@link JoinType#LEFT} the result
+     * contains the columns of this DataModel followed by the columns of the other DataModel that are not join
+     * columns. For {@link JoinType#SEMI} it contains only the columns of this DataModel. Rows with a null value
+     * in any join column never match.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * DataModel header = dataWrapper.getDataModel("header");
+     * DataModel detail = dataWrapper.getDataModel("detail");
+     * DataModel joined = header.join(detail, Arrays.asList("orderNo"), JoinType.INNER);
+     * </pre>
+     *
+     * <p><b>Note:</b> Neither DataModel is modified. Each result row is copied exactly once.</p>
+     *
+     * @param other The DataModel to join with.
+     * @param onColumns The columns whose values must be equal in both DataModels.
+     * @param joinType The kind of join to perform.
+     * @return A new {@link DataModel} containing the joined rows.
+     * @throws DataException if a join column does not exist in either DataModel, or if a column other than the
+     *                       join columns exists in both DataModels.
+     */
+    public DataModel join(DataModel other, List<String> onColumns, JoinType joinType) {
+        return HashJoin.join(this, other, onColumns, joinType);
+    }
+
+    /**
+     * Joins this DataModel with another DataModel on equal values of the specified column.
+     *
+     * <p>Functionally identical to {@link #join(DataModel, List, JoinType)}, but accepts a single join column.</p>
+     *
+     * @param other The DataModel to join with.
+     * @param onColumn The column whose values must be equal in both DataModels.
+     * @param joinType The kind of join to perform.
+     * @return A new {@link DataModel} containing the joined rows.
+     * @throws DataException if the join column does not exist in either DataModel, or if a column other than the
+     *                       join column exists in both DataModels.
      */
-    public DataModel searchAndModify(Boolean bool, Condition... conditions) {
-        if(freezeValues) {
-            throw new DataException("This DataModel is frozen and cannot be modified.");
-        }
-        List<HashMap<String, Object>> matchedRows = new ArrayList<>();
-        HashMap<String, Object> row;
-        boolean matchesAll;
+    public DataModel join(DataModel other, String onColumn, JoinType joinType) {
+        return join(other, Arrays.asList(onColumn), joinType);
+    }
 
-        for (int i = 0; i < rows.size(); i++) {
-            row = rows.get(i);
-            matchesAll = true;
+    /**
+     * Joins this DataModel with another DataModel whose rows are both already sorted in ascending order of the
+     * specified columns, for example with {@link #sortRowAscending(String)}. Instead of building a hash table,
+     * both DataModels are read once, side by side.
+     *
+     * <p>The result is the same as that of {@link #join(DataModel, List, JoinType)}: the sort order only decides
+     * which rows are compared, and rows are paired only if their keys are equal. The sort order is verified
+     * while the rows are read.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * header.sortRowAscending("orderNo");
+     * detail.sortRowAscending("orderNo");
+     * DataModel joined = header.mergeJoin(detail, Arrays.asList("orderNo"), JoinType.LEFT);
+     * </pre>
+     *
+     * @param other The DataModel to join with.
+     * @param onColumns The columns whose values must be equal in both DataModels.
+     * @param joinType The kind of join to perform.
+     * @return A new {@link DataModel} containing the joined rows.
+     * @throws DataException if a join column does not exist in either DataModel, if a column other than the join
+     *                       columns exists in both DataModels, or if either DataModel is not sorted.
+     */
+    public DataModel mergeJoin(DataModel other, List<String> onColumns, JoinType joinType) {
+        return mergeJoin(other, onColumns, joinType, false);
+    }
 
-            for (Condition condition : conditions) {
-                for (Map.Entry<String, Object> entry : condition.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-                    if (!row.containsKey(key)) {
-                        throw new DataException("Column " + key + " does not exist.");
-                    }
-                    if(row.get(key) == null) {
-                        if(value != null) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                    else {
-                        if (!row.get(key).equals(value)) {
-                            matchesAll = false;
-                            break;
-                        }
-                    }
-                }
-                if (!matchesAll) break;
-            }
+    /**
+     * Joins this DataModel with another DataModel whose rows are both already sorted in ascending order of the
+     * specified columns, with an option to treat the string values as numbers as in
+     * {@link #sortRowAscending(String, Boolean)}. Keys are still matched by equality, so "1" and "01" do not match.
+     *
+     * @param other The DataModel to join with.
+     * @param onColumns The columns whose values must be equal in both DataModels.
+     * @param joinType The kind of join to perform.
+     * @param isIntegerOrder If true, the rows are expected to be sorted by the numeric value of the strings.
+     * @return A new {@link DataModel} containing the joined rows.
+     * @throws DataException if a join column does not exist in either DataModel, if a column other than the join
+     *                       columns exists in both DataModels, or if either DataModel is not sorted.
+     */
+    public DataModel mergeJoin(DataModel other, List<String> onColumns, JoinType joinType, Boolean isIntegerOrder) {
+        return SortedMerge.mergeJoin(this, other, onColumns, joinType, isIntegerOrder);
+    }
 
-            if ((bool && matchesAll) || (!bool && !matchesAll)) {
-                matchedRows.add(row);
-            }
-        }
-        this.rows.clear();
-        this.addRows(matchedRows);
-        return this;
+    /**
+     * Joins this DataModel with another DataModel whose rows are both already sorted in ascending order of the
+     * specified column.
+     *
+     * <p>Functionally identical to {@link #mergeJoin(DataModel, List, JoinType)}, but accepts a single join column.</p>
+     *
+     * @param other The DataModel to join with.
+     * @param onColumn The column whose values must be equal in both DataModels.
+     * @param joinType The kind of join to perform.
+     * @return A new {@link DataModel} containing the joined rows.
+     * @throws DataException if the join column does not exist in either DataModel, if a column other than the join
+     *                       column exists in both DataModels, or if either DataModel is not sorted.
+     */
+    public DataModel mergeJoin(DataModel other, String onColumn, JoinType joinType) {
+        return mergeJoin(other, Arrays.asList(onColumn), joinType, false);
     }
 
     /**
-     * Returns the indices of rows that satisfy the provided filter predicate.
-     * 
+     * Merges several DataModels, each already sorted in ascending order of the specified column, into a new
+     * sorted {@link DataModel}. This is useful to combine sorted result pages from several sources.
+     *
+     * <p>The DataModels are read once, sequentially, keeping only a row position per DataModel. Rows with equal
+     * values keep the order of the DataModels passed. The result contains the union of all columns, with null
+     * values for columns a row does not have.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; ageFilter = row -&gt; {
-     *     if (row.containsKey("age") &amp;&amp; row.get("age") instanceof Number) {
-     *         return ((Number) row.get("age")).intValue() &gt;= 30;
-     *     }
-     *     return false;
-     * };
-     * List&lt;Integer&gt; matchedIndexes = originalDm.filterRowIndexes(ageFilter);
+     * DataModel merged = DataModel.mergeSortedAscending("regdate", shard1, shard2, shard3);
      * </pre>
      *
-     * @param filter The filter predicate to test each row.
-     * @return List of integers representing the indices of matched rows.
+     * @param column The column by which every DataModel is sorted.
+     * @param models The sorted DataModels to merge.
+     * @return A new {@link DataModel} containing the rows of all DataModels in ascending order.
+     * @throws DataException if the column does not exist in any of the DataModels, or if a DataModel is not sorted.
      */
-    public List<Integer> filterRowIndexes(Predicate<HashMap<String, Object>> filter) {
-        List<Integer> matchedIndexes = new ArrayList<>();
-        for (int i = 0; i < rows.size(); i++) {
-            if (filter.test(rows.get(i))) {
-                matchedIndexes.add(i);
-            }
-        }
-        return matchedIndexes;
+    public static DataModel mergeSortedAscending(String column, DataModel... models) {
+        return mergeSortedAscending(column, false, models);
     }
 
     /**
-     * Returns a list of rows that satisfy the provided filter predicate.
-     * 
+     * Merges several DataModels, each already sorted in ascending order of the specified column, into a new
+     * sorted {@link DataModel}, with an option to treat the string values as numbers as in
+     * {@link #sortRowAscending(String, Boolean)}.
+     *
+     * @param column The column by which every DataModel is sorted.
+     * @param isIntegerOrder If true, the rows are expected to be sorted by the numeric value of the strings.
+     * @param models The sorted DataModels to merge.
+     * @return A new {@link DataModel} containing the rows of all DataModels in ascending order.
+     * @throws DataException if the column does not exist in any of the DataModels, or if a DataModel is not sorted.
+     */
+    public static DataModel mergeSortedAscending(String column, Boolean isIntegerOrder, DataModel... models) {
+        return SortedMerge.mergeSorted(column, isIntegerOrder, 1, models);
+    }
+
+    /**
+     * Merges several DataModels, each already sorted in descending order of the specified column, into a new
+     * sorted {@link DataModel}.
+     *
+     * <p>Functionally identical to {@link #mergeSortedAscending(String, DataModel...)}, but for DataModels sorted
+     * with {@link #sortRowDescending(String)}.</p>
+     *
+     * @param column The column by which every DataModel is sorted.
+     * @param models The sorted DataModels to merge.
+     * @return A new {@link DataModel} containing the rows of all DataModels in descending order.
+     * @throws DataException if the column does not exist in any of the DataModels, or if a DataModel is not sorted.
+     */
+    public static DataModel mergeSortedDescending(String column, DataModel... models) {
+        return mergeSortedDescending(column, false, models);
+    }
+
+    /**
+     * Merges several DataModels, each already sorted in descending order of the specified column, into a new
+     * sorted {@link DataModel}, with an option to treat the string values as numbers as in
+     * {@link #sortRowDescending(String, Boolean)}.
+     *
+     * @param column The column by which every DataModel is sorted.
+     * @param isIntegerOrder If true, the rows are expected to be sorted by the numeric value of the strings.
+     * @param models The sorted DataModels to merge.
+     * @return A new {@link DataModel} containing the rows of all DataModels in descending order.
+     * @throws DataException if the column does not exist in any of the DataModels, or if a DataModel is not sorted.
+     */
+    public static DataModel mergeSortedDescending(String column, Boolean isIntegerOrder, DataModel... models) {
+        return SortedMerge.mergeSorted(column, isIntegerOrder, -1, models);
+    }
+
+    /**
+     * Returns the first {@code n} rows in the order of the specified column as a new {@link DataModel},
+     * without sorting the whole DataModel.
+     *
+     * <p>The result is the same as the first {@code n} rows after {@link #sortRowAscending(String)} or
+     * {@link #sortRowDescending(String)}, including the position of null values and the order of rows with
+     * equal values, but only a bounded heap of {@code n} rows is maintained, in O(rows log n) time.
+     * The values of the column are read once, so each comparison works on already extracted keys.</p>
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; nameFilter = row -&gt; "John".equals(row.get("name"));
-     * List&lt;HashMap&lt;String, Object&gt;&gt; matchedRows = originalDm.filterRows(nameFilter);
+     * DataModel latest = originalDm.topN("regdate", 20, false);
      * </pre>
      *
-     * @param filter The filter predicate to test each row.
-     * @return List of rows that match the filter condition.
+     * <p><b>Note:</b> The original DataModel, including its row order, is not modified.</p>
+     *
+     * @param column The column name based on which the rows will be ordered.
+     * @param n The maximum number of rows to return.
+     * @param ascending If true, returns the rows with the smallest values, otherwise the rows with the largest values.
+     * @return A new {@link DataModel} containing at most {@code n} rows, in order.
+     * @throws DataException If the specified column does not exist, if {@code n} is negative,
+     *                       or if mixed or unsupported types are encountered.
      */
-    public List<HashMap<String, Object>> filterRows(Predicate<HashMap<String, Object>> filter) {
-        List<HashMap<String, Object>> matchedRows = new ArrayList<>();
-        for (HashMap<String, Object> row : rows) {
-            if (filter.test(row)) {
-                matchedRows.add(new HashMap<String, Object>(row));
-            }
-        }
-        return matchedRows;
+    public DataModel topN(String column, int n, boolean ascending) {
+        return topN(column, n, ascending, false);
     }
 
     /**
-     * Filters the current {@link DataModel} based on the provided filter predicate and 
-     * returns a new {@link DataModel} containing only the rows that satisfy the filter.
-     * 
+     * Returns the first {@code n} rows in the order of the specified column as a new {@link DataModel},
+     * with an option to treat the string values as numbers. Each string is parsed only once.
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; ageFilter = row -&gt; {
-     *     if (row.containsKey("age") &amp;&amp; row.get("age") instanceof Number) {
-     *         return ((Number) row.get("age")).intValue() &gt;= 30;
-     *     }
-     *     return false;
-     * };
-     * dataModel filteredDm = originalDm.filterRowsAsDataModel(ageFilter);
+     * DataModel cheapest = originalDm.topN("price", 10, true, true);
      * </pre>
      *
-     * @param filter The filter predicate to test each row.
-     * @return A new {@link DataModel} containing rows that match the filter condition.
+     * <p><b>Note:</b> The original DataModel, including its row order, is not modified.</p>
+     *
+     * @param column The column name based on which the rows will be ordered.
+     * @param n The maximum number of rows to return.
+     * @param ascending If true, returns the rows with the smallest values, otherwise the rows with the largest values.
+     * @param isIntegerOrder If true, attempts to treat string values as numbers for ordering.
+     * @return A new {@link DataModel} containing at most {@code n} rows, in order.
+     * @throws DataException If the specified column does not exist, if {@code n} is negative,
+     *                       or if mixed or unsupported types are encountered.
      */
-    public DataModel filterRowsAsDataModel(Predicate<HashMap<String, Object>> filter) {
-        DataModel matchedDm = new DataModel(this.cols);
-        for (HashMap<String, Object> row : rows) {
-            if (filter.test(row)) {
-                matchedDm.addRow(new HashMap<String, Object>(row));
-            }
-        }
-        return matchedDm;
+    public DataModel topN(String column, int n, boolean ascending, Boolean isIntegerOrder) {
+        return topN(n, SortKey.of(column, ascending, isIntegerOrder));
     }
 
     /**
-     * Filters the current {@link DataModel} based on the provided filter predicate. 
-     * Only rows that satisfy the filter condition are retained. The DataModel is modified in place.
-     * 
+     * Returns the first {@code n} rows in the order of the specified sort keys as a new {@link DataModel},
+     * without sorting the whole DataModel. Later sort keys order the rows whose earlier keys are equal.
+     *
      * <p><b>Example:</b></p>
      * <pre>
-     * Predicate&lt;HashMap&lt;String, Object&gt;&gt; nameFilter = row -&gt; "John".equals(row.get("name"));
-     * originalDm.filterAndModify(nameFilter);
+     * DataModel top = originalDm.topN(10, SortKey.desc("salary", true), SortKey.asc("name"));
      * </pre>
      *
-     * <p><b>Note:</b> This operation modifies the original DataModel.</p>
+     * <p><b>Note:</b> The original DataModel, including its row order, is not modified.</p>
      *
-     * @param filter The filter predicate to test each row.
-     * @return The modified {@link DataModel} containing rows that match the filter condition.
+     * @param n The maximum number of rows to return.
+     * @param keys The sort keys, from the most to the least significant.
+     * @return A new {@link DataModel} containing at most {@code n} rows, in order.
+     * @throws DataException If a column of the sort keys does not exist, if {@code n} is negative,
+     *                       or if mixed or unsupported types are encountered.
      */
-    public DataModel filterAndModify(Predicate<HashMap<String, Object>> filter) {
-        ArrayList<HashMap<String, Object>> matchedRows = new ArrayList<>();
-        for (HashMap<String, Object> row : rows) {
-            if (filter.test(row)) {
-                matchedRows.add(row);
-            }
+    public DataModel topN(int n, SortKey... keys) {
+        RowSorter.checkKeys(this, keys);
+        if (n < 0) {
+            throw new DataException("The number of rows must not be negative: " + n);
         }
-        this.rows.clear();
-        this.addRows(matchedRows);
-        return this;
+        int[] selected = TopN.select(rows.size(), n, RowSorter.getComparator(rows, keys));
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            newRows.add(new HashMap<String, Object>(rows.get(index)));
+        }
+        return fromInternalRows(cols, newRows);
     }
 
     /**
@@ -2814,51 +4382,7 @@ public final class DataModel implements Cloneable{
      * @throws DataException If the specified column does not exist, or if mixed or unsupported types are encountered.
      */
     public DataModel sortRowAscending(String column, Boolean isIntegerOrder) {
-        if(freeze) {
-            throw new DataException("This DataModel is frozen and cannot be modified.");
-        }
-        if (!hasColumn(column)) {
-            throw new DataException("Column " + column + " does not exist.");
-        }
-        rows.sort((m1, m2) -> {
-            Object v1 = m1.get(column);
-            Object v2 = m2.get(column);
-
-            if (v1 == null) return 1;
-            if (v2 == null) return -1;
-
-            if (v1 instanceof String || v1 instanceof Character) {
-                if (!(v2 instanceof String || v2 instanceof Character)) {
-                    throw new DataException("Mixed types are not allowed");
-                }
-                if (isIntegerOrder) {
-                    try {
-                        return Double.compare(Double.parseDouble((String) v1), Double.parseDouble((String) v2));
-                    } catch (NumberFormatException e) {
-                        throw new DataException("Cannot convert string to number");
-                    }
-                } else {
-                    return ((String) v1).compareTo((String) v2);
-                }
-            }
-
-            if (v1 instanceof Boolean) {
-                if (!(v2 instanceof Boolean)) {
-                    throw new DataException("Mixed types are not allowed");
-                }
-                return Boolean.compare((Boolean) v1, (Boolean) v2);
-            }
-
-            if (v1 instanceof Number) {
-                if (!(v2 instanceof Number)) {
-                    throw new DataException("Mixed types are not allowed");
-                }
-                return Double.compare(((Number) v1).doubleValue(), ((Number) v2).doubleValue());
-            }
-
-            throw new DataException("Unsupported type or mixed types are not allowed");
-        });
-        return this;
+        return sortRows(SortKey.of(column, true, isIntegerOrder));
     }
 
     /**
@@ -2901,51 +4425,109 @@ public final class DataModel implements Cloneable{
      * @throws DataException If the specified column does not exist, or if mixed or unsupported types are encountered.
      */
     public DataModel sortRowDescending(String column, Boolean isIntegerOrder) {
+        return sortRows(SortKey.of(column, false, isIntegerOrder));
+    }
+
+    /**
+     * Sorts the rows by one or more sort keys. Later sort keys order the rows whose earlier keys are equal,
+     * and rows whose keys are all equal keep their current order.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * import static io.github.hison.data.model.SortKey.asc;
+     * import static io.github.hison.data.model.SortKey.desc;
+     *
+     * originalDm.sortRows(asc("dept"), desc("salary", true));
+     * </pre>
+     *
+     * <p>The values of every sort column are read and normalized once, and numeric strings are parsed once,
+     * before sorting. Only a permutation of row positions is sorted, after which the rows are reordered
+     * in a single pass.</p>
+     *
+     * <p><b>Note:</b> This operation modifies the original DataModel's row order.</p>
+     *
+     * @param keys The sort keys, from the most to the least significant.
+     * @return The modified {@link DataModel} with its rows sorted.
+     * @throws DataException An error occurs if changes cannot be made through setFreeze.
+     * @throws DataException If a column of the sort keys does not exist, or if mixed or unsupported types are encountered.
+     */
+    public DataModel sortRows(SortKey... keys) {
         if(freeze) {
             throw new DataException("This DataModel is frozen and cannot be modified.");
         }
-        if (!hasColumn(column)) {
-            throw new DataException("Column " + column + " does not exist.");
-        }
-        rows.sort((m1, m2) -> {
-            Object v1 = m1.get(column);
-            Object v2 = m2.get(column);
-
-            if (v1 == null) return -1;
-            if (v2 == null) return 1;
-
-            if (v1 instanceof String || v1 instanceof Character) {
-                if (!(v2 instanceof String || v2 instanceof Character)) {
-                    throw new DataException("Mixed types are not allowed");
-                }
-                if (isIntegerOrder) {
-                    try {
-                        return Double.compare(Double.parseDouble((String) v2), Double.parseDouble((String) v1));
-                    } catch (NumberFormatException e) {
-                        throw new DataException("Cannot convert string to number");
-                    }
-                } else {
-                    return ((String) v2).compareTo((String) v1);
-                }
-            }
+        RowSorter.checkKeys(this, keys);
+        reorderRows(RowSorter.sort(rows, keys));
+        return this;
+    }
 
-            if (v1 instanceof Boolean) {
-                if (!(v2 instanceof Boolean)) {
-                    throw new DataException("Mixed types are not allowed");
-                }
-                return Boolean.compare((Boolean) v2, (Boolean) v1);
-            }
+    /**
+     * Sorts the rows by one or more sort keys like {@link #sortRows(SortKey...)}, using multiple threads
+     * for large DataModels.
+     *
+     * <p>The halves of the rows are sorted in parallel in the common {@link java.util.concurrent.ForkJoinPool}
+     * and then merged, recursively. The sort is stable and the result is exactly the same as with
+     * {@link #sortRows(SortKey...)}, including the position of null values and the errors for mixed types.
+     * Small DataModels are sorted on the calling thread.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * largeDm.parallelSortRows(SortKey.asc("regdate"));
+     * </pre>
+     *
+     * <p><b>Note:</b> This operation modifies the original DataModel's row order. The DataModel must not be
+     * modified by other threads while it is being sorted.</p>
+     *
+     * @param keys The sort keys, from the most to the least significant.
+     * @return The modified {@link DataModel} with its rows sorted.
+     * @throws DataException An error occurs if changes cannot be made through setFreeze.
+     * @throws DataException If a column of the sort keys does not exist, or if mixed or unsupported types are encountered.
+     */
+    public DataModel parallelSortRows(SortKey... keys) {
+        if(freeze) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
+        RowSorter.checkKeys(this, keys);
+        reorderRows(RowSorter.parallelSort(rows, keys));
+        return this;
+    }
 
-            if (v1 instanceof Number) {
-                if (!(v2 instanceof Number)) {
-                    throw new DataException("Mixed types are not allowed");
-                }
-                return Double.compare(((Number) v2).doubleValue(), ((Number) v1).doubleValue());
-            }
+    /**
+     * Returns the indexes of the rows in the order of the sort keys, without modifying the DataModel.
+     * This can be used as a sorted view, e.g. with {@link #getRow(int)}.
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * List&lt;Integer&gt; order = originalDm.getSortedRowIndexes(SortKey.asc("dept"), SortKey.desc("salary"));
+     * for (int index : order) {
+     *     System.out.println(originalDm.getRow(index));
+     * }
+     * </pre>
+     *
+     * @param keys The sort keys, from the most to the least significant.
+     * @return A list of row indexes in sorted order.
+     * @throws DataException If a column of the sort keys does not exist, or if mixed or unsupported types are encountered.
+     */
+    public List<Integer> getSortedRowIndexes(SortKey... keys) {
+        RowSorter.checkKeys(this, keys);
+        int[] permutation = RowSorter.sort(rows, keys);
+        List<Integer> indexes = new ArrayList<>(permutation.length);
+        for (int index : permutation) {
+            indexes.add(index);
+        }
+        return indexes;
+    }
 
-            throw new DataException("Unsupported type or mixed types are not allowed");
-        });
-        return this;
+    /**
+     * Reorders the rows so that the new row {@code i} is the current row {@code permutation[i]}.
+     */
+    private void reorderRows(int[] permutation) {
+        Object[] current = rows.toArray();
+        for (int i = 0; i < permutation.length; i++) {
+            @SuppressWarnings("unchecked")
+            HashMap<String, Object> row = (HashMap<String, Object>) current[permutation[i]];
+            rows.set(i, row);
+        }
+        fireRowsReset();
     }
 
     /**
@@ -2959,9 +4541,95 @@ public final class DataModel implements Cloneable{
      * <p><b>Note:</b> This operation modifies the original DataModel's row order.</p>
      *
      * @return The modified {@link DataModel} with its rows in reverse order.
+     * @throws DataException An error occurs if changes cannot be made through setFreeze.
      */
     public DataModel sortRowReverse() {
+        if(freeze) {
+            throw new DataException("This DataModel is frozen and cannot be modified.");
+        }
         Collections.reverse(rows);
+        fireRowsReset();
+        return this;
+    }
+
+    /**
+     * Starts tracking the rows that are inserted, updated and removed from now on, so that only the changed
+     * rows have to be written back, e.g. to a database. Calling this method while tracking is already started
+     * has no effect.
+     *
+     * <p>Rows are tracked by instance: an updated row records the original values of its changed cells only,
+     * and a row whose cells are all set back to their original values is no longer reported as updated.
+     * A row that is inserted and then removed is not reported at all.</p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * originalDm.startTracking();
+     * originalDm.setValue(0, "name", "Jane");
+     * originalDm.removeRow(3);
+     * DataChanges changes = originalDm.getChanges(); // 1 updated row, 1 deleted row
+     * </pre>
+     *
+     * <p><b>Note:</b> Only changes made through the methods of this DataModel are tracked. Sorting and changing
+     * the columns are not reported as changes.</p>
+     *
+     * @return The current instance of the DataModel for chaining methods.
+     */
+    public DataModel startTracking() {
+        if (changeTracker == null) {
+            changeTracker = new ChangeTracker(this);
+            addRowListener(changeTracker);
+        }
+        return this;
+    }
+
+    /**
+     * Stops tracking changes and discards the changes tracked so far.
+     *
+     * @return The current instance of the DataModel for chaining methods.
+     */
+    public DataModel stopTracking() {
+        if (changeTracker != null) {
+            removeRowListener(changeTracker);
+            changeTracker = null;
+        }
+        return this;
+    }
+
+    /**
+     * Checks if changes are being tracked.
+     *
+     * @return {@code true} if {@link #startTracking()} has been called and tracking has not been stopped.
+     */
+    public boolean isTracking() {
+        return changeTracker != null;
+    }
+
+    /**
+     * Returns the rows that have been inserted, updated or deleted since tracking was started or the changes
+     * were last accepted. Takes time proportional to the number of changed rows.
+     *
+     * @return The {@link DataChanges} of this DataModel.
+     * @throws DataException if tracking has not been started.
+     */
+    public DataChanges getChanges() {
+        if (changeTracker == null) {
+            throw new DataException("Change tracking has not been started.");
+        }
+        return changeTracker.getChanges();
+    }
+
+    /**
+     * Accepts the changes tracked so far: the current rows become the original rows, and
+     * {@link #getChanges()} is empty until the next change.
+     *
+     * @return The current instance of the DataModel for chaining methods.
+     * @throws DataException if tracking has not been started.
+     */
+    public DataModel acceptChanges() {
+        if (changeTracker == null) {
+            throw new DataException("Change tracking has not been started.");
+        }
+        changeTracker.acceptChanges();
         return this;
     }
 
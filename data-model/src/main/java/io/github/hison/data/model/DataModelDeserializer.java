@@ -1,14 +1,18 @@
 package io.github.hison.data.model;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 
 /**
+ * Reads a {@link DataModel} from a JSON array of row objects or from a single row object, directly from the
+ * tokens of the parser. An object is read in the {@link DataModelFormat#COLUMNAR} format instead only if the
+ * {@link DataModelFormat#ATTRIBUTE} attribute of the deserialization is {@link DataModelFormat#COLUMNAR}, see
+ * {@link DataModelFormat#reader(ObjectMapper)}.
+ *
  * @author Hani son
  * @version 1.0.7
  */
@@ -16,18 +20,6 @@ public class DataModelDeserializer extends JsonDeserializer<DataModel> {
 
     @Override
     public DataModel deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException{
-        DataModel dataModel = new DataModel();
-
-        if (jp.isExpectedStartArrayToken()) {
-            while (jp.nextToken() != JsonToken.END_ARRAY) {
-                JsonNode arrayNode = jp.readValueAsTree();
-                dataModel.addRows(arrayNode);
-            }
-        } else if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            JsonNode objectNode = jp.readValueAsTree();
-            dataModel.addRows(objectNode);
-        }
-
-        return dataModel;
+        return DataModelReader.read(jp, ctxt.getAttribute(DataModelFormat.ATTRIBUTE) == DataModelFormat.COLUMNAR);
     }
 }
\ No newline at end of file
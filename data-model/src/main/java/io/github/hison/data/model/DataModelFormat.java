@@ -0,0 +1,67 @@
+package io.github.hison.data.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * The JSON layouts in which a {@link DataModel} can be written.
+ *
+ * <p>{@link #ROWS}, the default, writes an array with one object per row, repeating the column names in every
+ * row. {@link #COLUMNAR} writes the column names once, followed by the values of every row as an array in the
+ * order of the columns:</p>
+ * <pre>
+ * {"cols":["id","name"],"rows":[["1","Kim"],["2","Lee"]]}
+ * </pre>
+ *
+ * <p>The layout is chosen with the {@link #ATTRIBUTE} attribute of the Jackson serialization or
+ * deserialization, so it can be negotiated per request, e.g. by the web layer choosing the writer for the
+ * response. Without the attribute, a JSON object is always read as a single row, so the columnar layout is
+ * only read by a reader that asks for it.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * String json = DataModelFormat.COLUMNAR.writer(objectMapper).writeValueAsString(dataModel);
+ * DataModel copy = DataModelFormat.COLUMNAR.reader(objectMapper).forType(DataModel.class).readValue(json);
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public enum DataModelFormat {
+    /**
+     * An array of row objects.
+     */
+    ROWS,
+    /**
+     * An object with the column names and an array of row value arrays.
+     */
+    COLUMNAR;
+
+    /**
+     * The name of the serialization and deserialization attribute holding the format; a missing attribute
+     * means {@link #ROWS}.
+     */
+    public static final String ATTRIBUTE = DataModelFormat.class.getName();
+
+    /**
+     * Returns a writer of the mapper that writes DataModels, also inside a DataWrapper, in this format.
+     *
+     * @param mapper the mapper
+     * @return a writer with the format attribute set
+     */
+    public ObjectWriter writer(ObjectMapper mapper) {
+        return mapper.writer().withAttribute(ATTRIBUTE, this);
+    }
+
+    /**
+     * Returns a reader of the mapper that reads DataModels, also inside a DataWrapper, in this format. An array
+     * of row objects is read in either format.
+     *
+     * @param mapper the mapper
+     * @return a reader with the format attribute set
+     */
+    public ObjectReader reader(ObjectMapper mapper) {
+        return mapper.reader().withAttribute(ATTRIBUTE, this);
+    }
+}
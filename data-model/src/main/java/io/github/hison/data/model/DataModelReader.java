@@ -0,0 +1,228 @@
+package io.github.hison.data.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.github.hison.data.converter.DataConverter;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Reads a {@link DataModel} from the tokens of a {@link JsonParser}, without building a tree of the JSON.
+ *
+ * <p>As {@link DataModelDeserializer} always did, an object is a row and an array is read element by element,
+ * also if it is nested in another array; scalars and nulls have no fields and add no row. The values of a row
+ * are the same as those of {@link DataModel#addRows(com.fasterxml.jackson.databind.JsonNode)} for the tree of
+ * the object: scalar values are converted with
+ * {@link DataConverter#getConvertJsonTokenToDataModelRowValue(JsonParser)}, nested arrays and objects become
+ * lists and maps, and every value is then converted with
+ * {@link DataConverter#getConvertValueToDataModelRowValue(Object)} like any other value added to a row. The
+ * columns are the fields of the first object, in order of appearance; fields of later objects that are not
+ * columns are ignored and missing columns are null.</p>
+ *
+ * <p>Rows usually list their fields in the same order, so each field name is first compared with the column
+ * at its position, which is cheaper than looking it up. A DataModel written in the
+ * {@link DataModelFormat#COLUMNAR} format is read only if the caller asks for it; otherwise an object is
+ * always a single row, even if its fields are named {@code cols} and {@code rows}.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class DataModelReader {
+    private final JsonParser jp;
+    private final DataConverter converter;
+    private final LinkedHashSet<String> columnSet = new LinkedHashSet<>();
+    private final ArrayList<HashMap<String, Object>> rows = new ArrayList<>();
+    private String[] columns = new String[0];
+    private boolean initColumns;
+    private int position;
+
+    private DataModelReader(JsonParser jp) {
+        this.jp = jp;
+        this.converter = DataConverterFactory.getConverter();
+    }
+
+    /**
+     * Reads the array of rows or the single row at the current token of the parser. Any other value results in
+     * an empty DataModel, like {@link DataModelDeserializer} always did.
+     *
+     * @param jp the parser
+     * @param columnar whether an object is a DataModel in the {@link DataModelFormat#COLUMNAR} format rather
+     *                 than a single row; an array of rows is read in either case
+     * @throws DataException if {@code columnar} is true and an object is not in the columnar format
+     */
+    static DataModel read(JsonParser jp, boolean columnar) throws IOException {
+        DataModelReader reader = new DataModelReader(jp);
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            reader.readArray();
+        } else if (token == JsonToken.START_OBJECT) {
+            if (columnar) {
+                reader.readColumnar();
+            } else {
+                reader.readRow();
+            }
+        }
+        return DataModel.fromInternalRows(reader.columnSet, reader.rows);
+    }
+
+    /**
+     * Reads the elements of the array at the current token: objects are rows, nested arrays are read the same
+     * way, and any other value is skipped.
+     */
+    private void readArray() throws IOException {
+        JsonToken token;
+        while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                readRow();
+            } else if (token == JsonToken.START_ARRAY) {
+                readArray();
+            }
+        }
+    }
+
+    private void readRow() throws IOException {
+        HashMap<String, Object> row = startRow();
+        String name;
+        while ((name = jp.nextFieldName()) != null) {
+            putField(row, name, jp.nextToken());
+        }
+        endRow(row);
+    }
+
+    /**
+     * Reads an object in the {@link DataModelFormat#COLUMNAR} format: the field {@code cols} with an array of
+     * column names, followed by the field {@code rows} with an array of row value arrays.
+     */
+    private void readColumnar() throws IOException {
+        if (!"cols".equals(jp.nextFieldName()) || jp.nextToken() != JsonToken.START_ARRAY) {
+            throw new DataException("A columnar DataModel must start with the field cols.");
+        }
+        List<String> names = new ArrayList<>();
+        JsonToken token;
+        while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new DataException("The column names of a columnar DataModel must be strings.");
+            }
+            names.add(jp.getText());
+        }
+        if (!"rows".equals(jp.nextFieldName()) || jp.nextToken() != JsonToken.START_ARRAY) {
+            throw new DataException("A columnar DataModel must have the field rows after the field cols.");
+        }
+        readColumnarRows(names);
+    }
+
+    private void readColumnarRows(List<String> names) throws IOException {
+        columnSet.addAll(names);
+        if (columnSet.size() != names.size()) {
+            throw new DataException("Duplicate column name in the columnar DataModel.");
+        }
+        columns = columnSet.toArray(new String[0]);
+        JsonToken token;
+        while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new DataException("Each row of a columnar DataModel must be an array.");
+            }
+            HashMap<String, Object> row = newRow();
+            int position = 0;
+            while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+                if (position == columns.length) {
+                    throw new DataException("A row of a columnar DataModel has more values than columns.");
+                }
+                row.put(columns[position++], converter.getConvertValueToDataModelRowValue(readValue(token)));
+            }
+            addRow(row);
+        }
+        if (jp.nextToken() != JsonToken.END_OBJECT) {
+            throw new DataException("A columnar DataModel must only have the fields cols and rows.");
+        }
+    }
+
+    private HashMap<String, Object> newRow() {
+        return new HashMap<>(Math.max(16, (int) (columns.length / 0.75f) + 1));
+    }
+
+    private HashMap<String, Object> startRow() {
+        initColumns = columnSet.isEmpty();
+        position = 0;
+        return newRow();
+    }
+
+    /**
+     * Returns whether the field with the given name is a column, adding it to the columns while reading the
+     * first row. Rows usually list their fields in the order of the columns, so the name is first compared
+     * with the column at the position of the field.
+     */
+    private boolean acceptField(String name) {
+        int index = position++;
+        if (initColumns) {
+            columnSet.add(name);
+            return true;
+        }
+        return (index < columns.length && name.equals(columns[index])) || columnSet.contains(name);
+    }
+
+    private void putField(HashMap<String, Object> row, String name, JsonToken token) throws IOException {
+        if (acceptField(name)) {
+            row.put(name, converter.getConvertValueToDataModelRowValue(readValue(token)));
+        } else {
+            jp.skipChildren();
+        }
+    }
+
+    private void endRow(HashMap<String, Object> row) {
+        if (initColumns) {
+            columns = columnSet.toArray(new String[0]);
+        }
+        addRow(row);
+    }
+
+    private void addRow(HashMap<String, Object> row) {
+        if (row.size() < columns.length) {
+            for (String column : columns) {
+                if (!row.containsKey(column)) {
+                    row.put(column, null);
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            HashMap<String, Object> lastRow = rows.get(rows.size() - 1);
+            for (String column : columns) {
+                Object value = row.get(column);
+                Object lastValue = lastRow.get(column);
+                if (value != null && lastValue != null && value.getClass() != lastValue.getClass()) {
+                    throw new DataException("Please enter the same type. Column: " + column);
+                }
+            }
+        }
+        rows.add(row);
+    }
+
+    private Object readValue(JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return null;
+            case START_ARRAY:
+                ArrayList<Object> array = new ArrayList<>();
+                while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(readValue(token));
+                }
+                return array;
+            case START_OBJECT:
+                HashMap<String, Object> object = new HashMap<>();
+                String name;
+                while ((name = jp.nextFieldName()) != null) {
+                    object.put(name, readValue(jp.nextToken()));
+                }
+                return object;
+            default:
+                return converter.getConvertJsonTokenToDataModelRowValue(jp);
+        }
+    }
+}
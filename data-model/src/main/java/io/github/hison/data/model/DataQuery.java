@@ -0,0 +1,315 @@
+package io.github.hison.data.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.hison.data.condition.Condition;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A lazy query over the rows of a {@link DataModel}, created by {@link DataModel#query()}.
+ *
+ * <p>The filter, projection, ordering and limit stages are only recorded while the query is being built.
+ * When the query is executed with {@link #toDataModel()} or {@link #writeTo(JsonGenerator)}, all stages run
+ * in a single pass over the source rows and only the final result is materialized. No intermediate
+ * {@link DataModel} is created and the source values are not converted again.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * DataModel result = dataModel.query()
+ *         .where(new Condition("deptcode", "A01"))
+ *         .where(row -&gt; row.get("email") != null)
+ *         .select("id", "membername", "regdate")
+ *         .orderBy("regdate", false)
+ *         .limit(20)
+ *         .toDataModel();
+ * </pre>
+ *
+ * <p><b>Note:</b> The query reads the source rows at execution time, so modifications made to the source
+ * after the query has been built are visible to it. The source DataModel itself is never modified.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class DataQuery {
+    private final DataModel source;
+    private final List<Condition> conditions = new ArrayList<>();
+    private final List<Predicate<HashMap<String, Object>>> filters = new ArrayList<>();
+    private final List<SortKey> orders = new ArrayList<>();
+    private List<String> selectedColumns;
+    private int limit = -1;
+
+    DataQuery(DataModel source) {
+        this.source = source;
+    }
+
+    private void checkColumn(String column) {
+        if (!source.hasColumn(column)) {
+            throw new DataException("Column " + column + " does not exist.");
+        }
+    }
+
+    private boolean matches(HashMap<String, Object> row) {
+        if (!conditions.isEmpty() && !DataModel.matchesConditions(row, conditions)) {
+            return false;
+        }
+        for (Predicate<HashMap<String, Object>> filter : filters) {
+            if (!filter.test(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> getOutputColumns() {
+        if (selectedColumns == null) {
+            return source.getColumns();
+        }
+        return selectedColumns;
+    }
+
+    /**
+     * Runs the filter, ordering and limit stages in one pass and returns the references of the matched source rows.
+     */
+    private List<HashMap<String, Object>> execute() {
+        for (Condition condition : conditions) {
+            for (String column : condition.keySet()) {
+                checkColumn(column);
+            }
+        }
+        List<HashMap<String, Object>> rows = source.getRowsInternal();
+        List<HashMap<String, Object>> matched = new ArrayList<>();
+        boolean stopAtLimit = orders.isEmpty() && limit >= 0;
+
+        for (HashMap<String, Object> row : rows) {
+            if (stopAtLimit && matched.size() >= limit) {
+                break;
+            }
+            if (matches(row)) {
+                matched.add(row);
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            SortKey[] keys = orders.toArray(new SortKey[0]);
+            int[] order;
+            if (limit >= 0 && matched.size() > limit) {
+                // Only the first rows are needed, so select them with a bounded heap instead of sorting all matches.
+                order = TopN.select(matched.size(), limit, RowSorter.getComparator(matched, keys));
+            } else {
+                order = RowSorter.sort(matched, keys);
+            }
+            List<HashMap<String, Object>> ordered = new ArrayList<>(order.length);
+            for (int index : order) {
+                ordered.add(matched.get(index));
+            }
+            return ordered;
+        }
+        return matched;
+    }
+
+    /**
+     * Adds conditions that the result rows must match. Multiple conditions are treated as AND conditions,
+     * with the same matching rules as {@link DataModel#searchRows(Condition...)}.
+     *
+     * @param conditions Varargs of conditions to be used for matching rows.
+     * @return this query for method chaining.
+     */
+    public DataQuery where(Condition... conditions) {
+        this.conditions.addAll(Arrays.asList(conditions));
+        return this;
+    }
+
+    /**
+     * Adds a filter predicate that the result rows must satisfy. The predicate receives the source row
+     * and must not modify it.
+     *
+     * @param filter The filter predicate to test each row.
+     * @return this query for method chaining.
+     */
+    public DataQuery where(Predicate<HashMap<String, Object>> filter) {
+        this.filters.add(filter);
+        return this;
+    }
+
+    /**
+     * Restricts the result to the specified columns, in the given order.
+     *
+     * @param columns The names of the columns to be included in the result.
+     * @return this query for method chaining.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public DataQuery select(String... columns) {
+        return select(Arrays.asList(columns));
+    }
+
+    /**
+     * Restricts the result to the specified columns, in the given order.
+     *
+     * @param columns The list of column names to be included in the result.
+     * @return this query for method chaining.
+     * @throws DataException if any of the specified columns do not exist in the DataModel.
+     */
+    public DataQuery select(List<String> columns) {
+        for (String column : columns) {
+            checkColumn(column);
+        }
+        this.selectedColumns = new ArrayList<>(new LinkedHashSet<>(columns));
+        return this;
+    }
+
+    /**
+     * Orders the result rows in ascending order of the specified column.
+     * Calling this method again adds a secondary ordering.
+     *
+     * @param column The column name based on which the rows will be ordered.
+     * @return this query for method chaining.
+     * @throws DataException if the specified column does not exist.
+     */
+    public DataQuery orderBy(String column) {
+        return orderBy(column, true, false);
+    }
+
+    /**
+     * Orders the result rows by the specified column.
+     * Calling this method again adds a secondary ordering.
+     *
+     * @param column The column name based on which the rows will be ordered.
+     * @param ascending If true, the rows are ordered in ascending order, otherwise in descending order.
+     * @return this query for method chaining.
+     * @throws DataException if the specified column does not exist.
+     */
+    public DataQuery orderBy(String column, boolean ascending) {
+        return orderBy(column, ascending, false);
+    }
+
+    /**
+     * Orders the result rows by the specified column, with an option to treat the string values as numbers.
+     * The ordering follows the same rules as {@link DataModel#sortRowAscending(String, Boolean)} and
+     * {@link DataModel#sortRowDescending(String, Boolean)}. Calling this method again adds a secondary ordering.
+     *
+     * @param column The column name based on which the rows will be ordered.
+     * @param ascending If true, the rows are ordered in ascending order, otherwise in descending order.
+     * @param isIntegerOrder If true, attempts to treat string values as numbers for ordering.
+     * @return this query for method chaining.
+     * @throws DataException if the specified column does not exist.
+     */
+    public DataQuery orderBy(String column, boolean ascending, boolean isIntegerOrder) {
+        return orderBy(SortKey.of(column, ascending, isIntegerOrder));
+    }
+
+    /**
+     * Orders the result rows by the specified sort keys, from the most to the least significant.
+     * Calling this method again adds further orderings.
+     *
+     * @param keys The sort keys.
+     * @return this query for method chaining.
+     * @throws DataException if a column of the sort keys does not exist.
+     */
+    public DataQuery orderBy(SortKey... keys) {
+        RowSorter.checkKeys(source, keys);
+        orders.addAll(Arrays.asList(keys));
+        return this;
+    }
+
+    /**
+     * Limits the number of result rows. Without an ordering, the scan stops as soon as enough rows have matched.
+     * With an ordering, only the first rows are selected with a bounded heap, in O(n log limit) time,
+     * instead of sorting all matched rows.
+     *
+     * @param limit The maximum number of rows in the result.
+     * @return this query for method chaining.
+     * @throws DataException if the limit is negative.
+     */
+    public DataQuery limit(int limit) {
+        if (limit < 0) {
+            throw new DataException("The limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Executes the query and returns the number of result rows without materializing them.
+     *
+     * @return The number of rows the query produces.
+     * @throws DataException if a column from the conditions does not exist in the DataModel.
+     */
+    public int count() {
+        return execute().size();
+    }
+
+    /**
+     * Executes the query and materializes the result into a new {@link DataModel}.
+     * Each result row is copied exactly once, restricted to the selected columns.
+     *
+     * @return A new {@link DataModel} containing the result rows.
+     * @throws DataException if a column from the conditions does not exist in the DataModel,
+     *                       or if mixed or unsupported types are encountered while ordering.
+     */
+    public DataModel toDataModel() {
+        List<HashMap<String, Object>> matched = execute();
+        List<String> columns = getOutputColumns();
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(matched.size());
+
+        for (HashMap<String, Object> row : matched) {
+            if (selectedColumns == null) {
+                newRows.add(new HashMap<String, Object>(row));
+            } else {
+                HashMap<String, Object> newRow = new HashMap<>();
+                for (String column : columns) {
+                    newRow.put(column, row.get(column));
+                }
+                newRows.add(newRow);
+            }
+        }
+        return DataModel.fromInternalRows(columns, newRows);
+    }
+
+    /**
+     * Executes the query and writes the result directly to the {@link JsonGenerator} as a JSON array of objects,
+     * without materializing a result {@link DataModel}. Columns are written in the order of the result columns.
+     * Values other than strings are written with the {@link ObjectMapper} provided by
+     * {@link io.github.hison.data.converter.DataConverter#getObjectMapperForConvertDataModelToJson()}.
+     *
+     * @param gen The JsonGenerator used for writing JSON content.
+     * @throws IOException if any issues occur while writing JSON.
+     * @throws DataException if a column from the conditions does not exist in the DataModel,
+     *                       or if mixed or unsupported types are encountered while ordering.
+     */
+    public void writeTo(JsonGenerator gen) throws IOException {
+        List<HashMap<String, Object>> matched = execute();
+        List<String> columns = getOutputColumns();
+        ObjectMapper mapper = null;
+
+        gen.writeStartArray();
+        for (HashMap<String, Object> row : matched) {
+            gen.writeStartObject();
+            for (String column : columns) {
+                Object value = row.get(column);
+                if (value == null) {
+                    gen.writeNullField(column);
+                } else if (value instanceof String) {
+                    gen.writeStringField(column, (String) value);
+                } else {
+                    if (mapper == null) {
+                        mapper = DataConverterFactory.getConverter().getObjectMapperForConvertDataModelToJson();
+                    }
+                    gen.writeFieldName(column);
+                    mapper.writeValue(gen, value);
+                }
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * A filtered projection of a {@link DataModel} that is kept up to date as the DataModel changes,
+ * created by {@link DataModel#createFilterView(Predicate)}.
+ *
+ * <p>The view is registered with its DataModel and tests only the rows that are inserted, updated or removed,
+ * so it never rescans the DataModel except after a change to all rows, such as sorting or removing a column.
+ * Reading the view costs time proportional to the number of rows in the view.</p>
+ *
+ * <p>The rows of the view are in the order in which they started to match: the rows matching when the view
+ * is created come first, in the order of the DataModel, followed by rows that matched later because they were
+ * inserted or updated. Reordering the DataModel restores the order of the DataModel.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * FilterView active = dataModel.createFilterView(row -&gt; "Y".equals(row.get("useyn")));
+ * dataModel.setValue(0, "useyn", "Y");
+ * DataModel result = active.toDataModel();
+ * active.close();
+ * </pre>
+ *
+ * <p><b>Note:</b> Like the DataModel, a view is not thread-safe. Call {@link #close()} when the view is no
+ * longer needed, so that the DataModel stops maintaining it.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class FilterView {
+    private final DataModel source;
+    private final Predicate<HashMap<String, Object>> filter;
+    private final IdentityHashMap<HashMap<String, Object>, Long> positions = new IdentityHashMap<>();
+    private final TreeMap<Long, HashMap<String, Object>> rows = new TreeMap<>();
+    private long nextPosition;
+
+    private final RowListener listener = new RowListener() {
+        @Override
+        public void rowInserted(int index, HashMap<String, Object> row) {
+            if (filter.test(row)) {
+                add(row);
+            }
+        }
+
+        @Override
+        public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+            boolean matches = filter.test(row);
+            boolean contained = positions.containsKey(row);
+            if (matches && !contained) {
+                add(row);
+            } else if (!matches && contained) {
+                remove(row);
+            }
+        }
+
+        @Override
+        public void rowRemoved(int index, HashMap<String, Object> row) {
+            remove(row);
+        }
+
+        @Override
+        public void rowsReset() {
+            rebuild();
+        }
+    };
+
+    FilterView(DataModel source, Predicate<HashMap<String, Object>> filter) {
+        this.source = source;
+        this.filter = filter;
+        rebuild();
+        source.addRowListener(listener);
+    }
+
+    private void add(HashMap<String, Object> row) {
+        long position = nextPosition++;
+        positions.put(row, position);
+        rows.put(position, row);
+    }
+
+    private void remove(HashMap<String, Object> row) {
+        Long position = positions.remove(row);
+        if (position != null) {
+            rows.remove(position);
+        }
+    }
+
+    private void rebuild() {
+        positions.clear();
+        rows.clear();
+        for (HashMap<String, Object> row : source.getRowsInternal()) {
+            if (filter.test(row)) {
+                add(row);
+            }
+        }
+    }
+
+    /**
+     * @return the number of rows in the view
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Returns copies of the rows in the view.
+     *
+     * @return a new list containing a copy of every row in the view
+     */
+    public List<HashMap<String, Object>> getRows() {
+        List<HashMap<String, Object>> result = new ArrayList<>(rows.size());
+        for (HashMap<String, Object> row : rows.values()) {
+            result.add(new HashMap<String, Object>(row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rows in the view as a new {@link DataModel} with the columns of the source DataModel.
+     *
+     * @return a new DataModel containing a copy of every row in the view
+     */
+    public DataModel toDataModel() {
+        ArrayList<HashMap<String, Object>> result = new ArrayList<>(rows.size());
+        for (HashMap<String, Object> row : rows.values()) {
+            result.add(new HashMap<String, Object>(row));
+        }
+        return DataModel.fromInternalRows(source.getColumns(), result);
+    }
+
+    /**
+     * Stops maintaining the view. The view keeps its last content.
+     */
+    public void close() {
+        source.removeRowListener(listener);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import io.github.hison.data.converter.DataConverter;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Groups the rows of a {@link DataModel} by one or more columns, created by {@link DataModel#groupBy(String...)}.
+ *
+ * <p>{@link #aggregate(Aggregate...)} computes all aggregates in a single pass over the rows. Groups are found
+ * with an open-addressing hash table over the group columns and the running state of every aggregate is kept
+ * in primitive arrays, so no objects are allocated per row. Each aggregate column is read and parsed once per
+ * row, even if several aggregates use it.</p>
+ *
+ * <p>The result contains one row per group, in order of first appearance, with the group columns followed
+ * by the aggregate columns. Null is a group key like any other value. Without group columns the result
+ * contains exactly one row, even if the DataModel is empty.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * DataModel summary = dataModel.groupBy("category")
+ *         .aggregate(Aggregate.count(), Aggregate.sum("amount"), Aggregate.max("amount"));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class GroupBy {
+    private final DataModel source;
+    private final String[] columns;
+
+    GroupBy(DataModel source, String[] columns) {
+        for (String column : columns) {
+            if (!source.hasColumn(column)) {
+                throw new DataException("Column " + column + " does not exist.");
+            }
+        }
+        if (new LinkedHashSet<>(Arrays.asList(columns)).size() != columns.length) {
+            throw new DataException("Duplicate group column.");
+        }
+        this.source = source;
+        this.columns = columns;
+    }
+
+    /**
+     * Computes the given aggregates for every group and returns them as a new {@link DataModel}.
+     * Counts, sums and averages are converted with
+     * {@link DataConverter#getConvertValueToDataModelRowValue(Object)} like any other value added to a DataModel.
+     *
+     * @param aggregates the aggregates to compute
+     * @return a new DataModel with one row per group
+     * @throws DataException if an aggregate column does not exist, if a result column name is duplicated,
+     *                       or if a value of a sum or average cannot be converted to a number
+     */
+    public DataModel aggregate(Aggregate... aggregates) {
+        List<String> outputColumns = new ArrayList<>(Arrays.asList(columns));
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate.getColumn() != null && !source.hasColumn(aggregate.getColumn())) {
+                throw new DataException("Column " + aggregate.getColumn() + " does not exist.");
+            }
+            if (outputColumns.contains(aggregate.getName())) {
+                throw new DataException("Duplicate column name: " + aggregate.getName());
+            }
+            outputColumns.add(aggregate.getName());
+        }
+
+        // Aggregates sharing a source column read and parse its value only once per row.
+        Map<String, List<Integer>> aggregatesByColumn = new LinkedHashMap<>();
+        List<Integer> countAggregates = new ArrayList<>();
+        for (int i = 0; i < aggregates.length; i++) {
+            String column = aggregates[i].getColumn();
+            if (column == null) {
+                countAggregates.add(i);
+            } else {
+                aggregatesByColumn.computeIfAbsent(column, k -> new ArrayList<>()).add(i);
+            }
+        }
+        String[] valueColumns = aggregatesByColumn.keySet().toArray(new String[0]);
+        int[][] valueAggregates = new int[valueColumns.length][];
+        boolean[] numericColumns = new boolean[valueColumns.length];
+        for (int c = 0; c < valueColumns.length; c++) {
+            List<Integer> indexes = aggregatesByColumn.get(valueColumns[c]);
+            valueAggregates[c] = new int[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                valueAggregates[c][i] = indexes.get(i);
+                numericColumns[c] |= aggregates[indexes.get(i)].isNumeric();
+            }
+        }
+
+        List<HashMap<String, Object>> rows = source.getRowsInternal();
+        KeyTable groups = new KeyTable(rows, columns, 16);
+        AggregateBuffer[] buffers = new AggregateBuffer[aggregates.length];
+        for (int i = 0; i < aggregates.length; i++) {
+            buffers[i] = new AggregateBuffer(aggregates[i], 16);
+        }
+        NumericValue number = new NumericValue();
+        int capacity = 16;
+
+        for (int r = 0; r < rows.size(); r++) {
+            HashMap<String, Object> row = rows.get(r);
+            int group = columns.length == 0 ? 0 : groups.add(r);
+            if (group >= capacity) {
+                capacity <<= 1;
+                for (AggregateBuffer buffer : buffers) {
+                    buffer.ensureCapacity(capacity);
+                }
+            }
+            for (int index : countAggregates) {
+                buffers[index].add(group, null, number, false);
+            }
+            for (int c = 0; c < valueColumns.length; c++) {
+                Object value = row.get(valueColumns[c]);
+                boolean isNumber = value != null && numericColumns[c] && number.parse(value);
+                for (int index : valueAggregates[c]) {
+                    buffers[index].add(group, value, number, isNumber);
+                }
+            }
+        }
+
+        DataConverter converter = DataConverterFactory.getConverter();
+        int groupCount = columns.length == 0 ? 1 : groups.size();
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(groupCount);
+        for (int group = 0; group < groupCount; group++) {
+            HashMap<String, Object> newRow = new HashMap<>();
+            if (columns.length > 0) {
+                HashMap<String, Object> keyRow = rows.get(groups.getKeyRow(group));
+                for (String column : columns) {
+                    newRow.put(column, keyRow.get(column));
+                }
+            }
+            for (AggregateBuffer buffer : buffers) {
+                Object result = buffer.getResult(group);
+                Aggregate.Type type = buffer.getAggregate().getType();
+                if (type != Aggregate.Type.MIN && type != Aggregate.Type.MAX) {
+                    result = converter.getConvertValueToDataModelRowValue(result);
+                }
+                newRow.put(buffer.getAggregate().getName(), result);
+            }
+            newRows.add(newRow);
+        }
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+}
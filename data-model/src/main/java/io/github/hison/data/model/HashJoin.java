@@ -0,0 +1,168 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Joins two {@link DataModel}s on equal values of one or more columns using a hash table.
+ *
+ * <p>The hash table is built on the smaller input and probed with the larger one, so the memory used is
+ * proportional to the smaller input. Matches are linked into per-key chains of row indexes of the right
+ * input, which keeps the output in the order of the left rows followed by the order of their matching right
+ * rows, whichever side the table was built on. Rows with a null value in any key column never match.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class HashJoin {
+
+    private HashJoin() {
+    }
+
+    /**
+     * Returns the columns of the right input that are added to the output.
+     */
+    static List<String> getRightOutputColumns(DataModel left, DataModel right, String[] onColumns, JoinType joinType) {
+        List<String> rightColumns = new ArrayList<>();
+        if (joinType == JoinType.SEMI) {
+            return rightColumns;
+        }
+        List<String> keys = Arrays.asList(onColumns);
+        for (String column : right.getColumns()) {
+            if (keys.contains(column)) {
+                continue;
+            }
+            if (left.hasColumn(column)) {
+                throw new DataException("Column " + column + " exists in both DataModels.");
+            }
+            rightColumns.add(column);
+        }
+        return rightColumns;
+    }
+
+    /**
+     * Checks the join arguments and returns the key columns as an array.
+     */
+    static String[] checkJoin(DataModel left, DataModel right, List<String> onColumns, JoinType joinType) {
+        if (right == null || onColumns == null || joinType == null) {
+            throw new DataException("The DataModel, the join columns and the join type must not be null.");
+        }
+        if (onColumns.isEmpty()) {
+            throw new DataException("At least one join column is required.");
+        }
+        if (new LinkedHashSet<>(onColumns).size() != onColumns.size()) {
+            throw new DataException("Duplicate join column.");
+        }
+        for (String column : onColumns) {
+            if (!left.hasColumn(column) || !right.hasColumn(column)) {
+                throw new DataException("Column " + column + " does not exist.");
+            }
+        }
+        return onColumns.toArray(new String[0]);
+    }
+
+    static DataModel join(DataModel left, DataModel right, List<String> onColumnList, JoinType joinType) {
+        String[] onColumns = checkJoin(left, right, onColumnList, joinType);
+        List<String> rightColumns = getRightOutputColumns(left, right, onColumns, joinType);
+        List<HashMap<String, Object>> leftRows = left.getRowsInternal();
+        List<HashMap<String, Object>> rightRows = right.getRowsInternal();
+
+        // For each left row, the head of its chain of matching right row indexes (-1 for none).
+        int[] leftChains = new int[leftRows.size()];
+        int[] next = new int[rightRows.size()];
+        Arrays.fill(leftChains, -1);
+
+        if (rightRows.size() <= leftRows.size()) {
+            KeyTable table = new KeyTable(rightRows, onColumns, rightRows.size());
+            int[] heads = new int[rightRows.size()];
+            Arrays.fill(heads, -1);
+            // Iterate backwards so that prepending keeps every chain in ascending row order.
+            for (int r = rightRows.size() - 1; r >= 0; r--) {
+                if (KeyTable.hasNullKey(rightRows.get(r), onColumns)) {
+                    continue;
+                }
+                int key = table.add(r);
+                next[r] = heads[key];
+                heads[key] = r;
+            }
+            for (int l = 0; l < leftRows.size(); l++) {
+                HashMap<String, Object> row = leftRows.get(l);
+                if (KeyTable.hasNullKey(row, onColumns)) {
+                    continue;
+                }
+                int key = table.find(row, onColumns);
+                if (key >= 0) {
+                    leftChains[l] = heads[key];
+                }
+            }
+        } else {
+            KeyTable table = new KeyTable(leftRows, onColumns, leftRows.size());
+            int[] leftKeys = new int[leftRows.size()];
+            for (int l = 0; l < leftRows.size(); l++) {
+                leftKeys[l] = KeyTable.hasNullKey(leftRows.get(l), onColumns) ? -1 : table.add(l);
+            }
+            int[] heads = new int[table.size()];
+            int[] tails = new int[table.size()];
+            Arrays.fill(heads, -1);
+            for (int r = 0; r < rightRows.size(); r++) {
+                HashMap<String, Object> row = rightRows.get(r);
+                next[r] = -1;
+                if (KeyTable.hasNullKey(row, onColumns)) {
+                    continue;
+                }
+                int key = table.find(row, onColumns);
+                if (key < 0) {
+                    continue;
+                }
+                if (heads[key] == -1) {
+                    heads[key] = r;
+                } else {
+                    next[tails[key]] = r;
+                }
+                tails[key] = r;
+            }
+            for (int l = 0; l < leftRows.size(); l++) {
+                if (leftKeys[l] >= 0) {
+                    leftChains[l] = heads[leftKeys[l]];
+                }
+            }
+        }
+
+        List<String> outputColumns = new ArrayList<>(left.getColumns());
+        outputColumns.addAll(rightColumns);
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>();
+
+        for (int l = 0; l < leftRows.size(); l++) {
+            HashMap<String, Object> leftRow = leftRows.get(l);
+            int r = leftChains[l];
+            if (r == -1) {
+                if (joinType == JoinType.LEFT) {
+                    HashMap<String, Object> newRow = new HashMap<>(leftRow);
+                    for (String column : rightColumns) {
+                        newRow.put(column, null);
+                    }
+                    newRows.add(newRow);
+                }
+                continue;
+            }
+            if (joinType == JoinType.SEMI) {
+                newRows.add(new HashMap<String, Object>(leftRow));
+                continue;
+            }
+            for (; r != -1; r = next[r]) {
+                HashMap<String, Object> rightRow = rightRows.get(r);
+                HashMap<String, Object> newRow = new HashMap<>(leftRow);
+                for (String column : rightColumns) {
+                    newRow.put(column, rightRow.get(column));
+                }
+                newRows.add(newRow);
+            }
+        }
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+}
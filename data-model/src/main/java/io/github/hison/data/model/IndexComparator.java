@@ -0,0 +1,18 @@
+package io.github.hison.data.model;
+
+/**
+ * Compares two row positions, for sorting and selecting rows without comparing the rows themselves.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+interface IndexComparator {
+    /**
+     * Compares the rows at two positions.
+     *
+     * @param i the position of the first row
+     * @param j the position of the second row
+     * @return a negative integer, zero, or a positive integer as the first row is ordered before, equal to, or after the second
+     */
+    int compare(int i, int j);
+}
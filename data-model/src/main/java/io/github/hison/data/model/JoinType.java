@@ -0,0 +1,28 @@
+package io.github.hison.data.model;
+
+import java.util.List;
+
+/**
+ * The kind of join performed by {@link DataModel#join(DataModel, List, JoinType)}.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public enum JoinType {
+    /**
+     * Returns one row for every pair of matching rows. Rows without a match are dropped.
+     */
+    INNER,
+
+    /**
+     * Returns every row of the current DataModel, combined with each matching row of the other DataModel.
+     * Rows without a match are kept once, with null values for the columns of the other DataModel.
+     */
+    LEFT,
+
+    /**
+     * Returns every row of the current DataModel that has at least one matching row in the other DataModel.
+     * Only the columns of the current DataModel are returned and no row is duplicated.
+     */
+    SEMI
+}
@@ -0,0 +1,160 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An open-addressing hash table over the composite key formed by one or more columns of a list of rows.
+ *
+ * <p>Each distinct key receives a dense key id in order of first appearance. The table stores only
+ * primitive arrays: the hash of every key and the index of the first row that carries it, so adding or
+ * looking up a row does not allocate a key object. Keys are compared with {@link Objects#equals(Object, Object)}
+ * against the values of that representative row.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class KeyTable {
+    private final List<HashMap<String, Object>> rows;
+    private final String[] columns;
+    private int[] slots;
+    private int[] hashes;
+    private int[] keyRows;
+    private int size;
+
+    /**
+     * @param rows the rows whose indexes are added to the table
+     * @param columns the key columns
+     * @param expectedKeys the expected number of distinct keys, used for the initial capacity
+     */
+    KeyTable(List<HashMap<String, Object>> rows, String[] columns, int expectedKeys) {
+        this.rows = rows;
+        this.columns = columns;
+        int capacity = 16;
+        while (capacity < expectedKeys * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+        this.hashes = new int[Math.max(8, expectedKeys)];
+        this.keyRows = new int[Math.max(8, expectedKeys)];
+    }
+
+    /**
+     * Computes the hash of the key formed by the given columns of a row.
+     */
+    static int hash(Map<String, Object> row, String[] columns) {
+        int h = 1;
+        for (String column : columns) {
+            h = 31 * h + Objects.hashCode(row.get(column));
+        }
+        // Spread the bits so that similar keys do not cluster in the low bits.
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h;
+    }
+
+    /**
+     * Checks whether any of the given key columns of a row is null.
+     */
+    static boolean hasNullKey(Map<String, Object> row, String[] columns) {
+        for (String column : columns) {
+            if (row.get(column) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean keyEquals(int keyId, Map<String, Object> row, String[] rowColumns) {
+        HashMap<String, Object> keyRow = rows.get(keyRows[keyId]);
+        for (int i = 0; i < columns.length; i++) {
+            if (!Objects.equals(keyRow.get(columns[i]), row.get(rowColumns[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void grow() {
+        int[] newSlots = new int[slots.length << 1];
+        int newMask = newSlots.length - 1;
+        for (int keyId = 0; keyId < size; keyId++) {
+            int slot = hashes[keyId] & newMask;
+            while (newSlots[slot] != 0) {
+                slot = (slot + 1) & newMask;
+            }
+            newSlots[slot] = keyId + 1;
+        }
+        slots = newSlots;
+    }
+
+    /**
+     * Returns the key id of the row at the given index, adding its key to the table if it is not present yet.
+     */
+    int add(int rowIndex) {
+        HashMap<String, Object> row = rows.get(rowIndex);
+        int h = hash(row, columns);
+        int mask = slots.length - 1;
+        int slot = h & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            int keyId = entry - 1;
+            if (hashes[keyId] == h && keyEquals(keyId, row, columns)) {
+                return keyId;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size << 1);
+            keyRows = Arrays.copyOf(keyRows, size << 1);
+        }
+        int keyId = size++;
+        hashes[keyId] = h;
+        keyRows[keyId] = rowIndex;
+        slots[slot] = keyId + 1;
+        if (size * 2 > slots.length) {
+            grow();
+        }
+        return keyId;
+    }
+
+    /**
+     * Looks up the key formed by the given columns of a row that does not need to belong to this table.
+     *
+     * @param row the probe row
+     * @param rowColumns the columns of the probe row, matched position by position with the key columns
+     * @return the key id, or -1 if the key is not present
+     */
+    int find(Map<String, Object> row, String[] rowColumns) {
+        int h = hash(row, rowColumns);
+        int mask = slots.length - 1;
+        int slot = h & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            int keyId = entry - 1;
+            if (hashes[keyId] == h && keyEquals(keyId, row, rowColumns)) {
+                return keyId;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first row that carries the given key.
+     */
+    int getKeyRow(int keyId) {
+        return keyRows[keyId];
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+import java.util.List;
+
+import io.github.hison.data.condition.NormalizedMatch;
+import io.github.hison.data.condition.TextNormalizer;
+
+/**
+ * An index of the normalized values of one column, answering {@link NormalizedMatch} conditions of the same
+ * {@link TextNormalizer} and plain equality conditions without reading the rows.
+ *
+ * <p>Every value is normalized once, when it is added to the index, and kept in a hash map from the
+ * normalized key to the ascending indexes of its rows. A normalized match is a single lookup of the key of its
+ * value. A plain equality condition looks up the key of the condition value too; since equal values have equal
+ * keys, the rows found are candidates that are checked against the condition like any other row.</p>
+ *
+ * <p>Appending rows and changing values update the index in place. Inserting or removing a row before the end
+ * shifts the indexes of the following rows, so like a reset it causes the index to be rebuilt on the next
+ * search.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class NormalizedIndex implements RowListener {
+    private static final int[] NO_ROWS = new int[0];
+
+    private final DataModel model;
+    private final String column;
+    private final TextNormalizer normalizer;
+    private final HashMap<String, RowList> keys = new HashMap<>();
+    private boolean stale = true;
+
+    NormalizedIndex(DataModel model, String column, TextNormalizer normalizer) {
+        this.model = model;
+        this.column = column;
+        this.normalizer = normalizer;
+    }
+
+    TextNormalizer getNormalizer() {
+        return normalizer;
+    }
+
+    /**
+     * Returns the ascending indexes of the rows whose value has the same key as the given value, or
+     * an empty array for a null value.
+     */
+    int[] getRows(Object value) {
+        if (value == null) {
+            return NO_ROWS;
+        }
+        return getRowsByKey(normalizer.normalize(value));
+    }
+
+    /**
+     * Returns the ascending indexes of the rows matched by the normalized match, which must use the normalizer
+     * of this index.
+     */
+    int[] getRows(NormalizedMatch match) {
+        return getRowsByKey(match.getKey());
+    }
+
+    private int[] getRowsByKey(String key) {
+        rebuildIfStale();
+        RowList list = keys.get(key);
+        return list == null ? NO_ROWS : list.toArray();
+    }
+
+    private void rebuildIfStale() {
+        if (!stale) {
+            return;
+        }
+        keys.clear();
+        List<HashMap<String, Object>> rows = model.getRowsInternal();
+        for (int i = 0; i < rows.size(); i++) {
+            add(rows.get(i).get(column), i);
+        }
+        stale = false;
+    }
+
+    private void add(Object value, int row) {
+        if (value != null) {
+            keys.computeIfAbsent(normalizer.normalize(value), k -> new RowList()).add(row);
+        }
+    }
+
+    private void remove(Object value, int row) {
+        if (value == null) {
+            return;
+        }
+        String key = normalizer.normalize(value);
+        RowList list = keys.get(key);
+        if (list != null) {
+            list.remove(row);
+            if (list.size == 0) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void rowInserted(int index, HashMap<String, Object> row) {
+        if (stale) {
+            return;
+        }
+        if (index != model.getRowCount() - 1) {
+            stale = true;
+            return;
+        }
+        add(row.get(column), index);
+    }
+
+    @Override
+    public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        if (!stale && this.column.equals(column)) {
+            remove(oldValue, index);
+            add(row.get(column), index);
+        }
+    }
+
+    @Override
+    public void rowRemoved(int index, HashMap<String, Object> row) {
+        if (stale) {
+            return;
+        }
+        if (index != model.getRowCount()) {
+            stale = true;
+            return;
+        }
+        remove(row.get(column), index);
+    }
+
+    @Override
+    public void rowsReset() {
+        stale = true;
+    }
+}
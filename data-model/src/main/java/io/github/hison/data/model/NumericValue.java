@@ -0,0 +1,142 @@
+package io.github.hison.data.model;
+
+/**
+ * A reusable holder for a cell value interpreted as a number.
+ *
+ * <p>Cell values converted by the {@link io.github.hison.data.converter.DataConverter} are usually strings,
+ * even for numeric data. {@link #parse(Object)} reads such a value without throwing exceptions and without
+ * allocating: integral strings of up to 18 digits are read directly into a {@code long}, other decimal strings
+ * are validated first and then handed to {@link Double#parseDouble(String)}.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class NumericValue {
+    private boolean integral;
+    private long longValue;
+    private double doubleValue;
+
+    /**
+     * Parses a cell value as a number.
+     *
+     * @param value the cell value; strings, characters and numbers are supported
+     * @return {@code true} if the value is a number, {@code false} otherwise (including null)
+     */
+    boolean parse(Object value) {
+        if (value instanceof String) {
+            return parse((String) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            integral = true;
+            longValue = ((Number) value).longValue();
+            doubleValue = longValue;
+            return true;
+        }
+        if (value instanceof Number) {
+            integral = false;
+            doubleValue = ((Number) value).doubleValue();
+            return true;
+        }
+        if (value instanceof Character) {
+            char c = (Character) value;
+            if (c >= '0' && c <= '9') {
+                integral = true;
+                longValue = c - '0';
+                doubleValue = longValue;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean parse(String s) {
+        int length = s.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = s.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        int digitsStart = i;
+        long result = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            result = result * 10 + (c - '0');
+            i++;
+        }
+        int digits = i - digitsStart;
+        if (i == length && digits > 0 && digits <= 18) {
+            integral = true;
+            longValue = negative ? -result : result;
+            doubleValue = longValue;
+            return true;
+        }
+        if (!isDecimal(s, i, digits)) {
+            return false;
+        }
+        integral = false;
+        doubleValue = Double.parseDouble(s);
+        return true;
+    }
+
+    /**
+     * Validates the remainder of a decimal number: {@code [digits][.digits][(e|E)[+|-]digits]}.
+     */
+    private static boolean isDecimal(String s, int i, int integerDigits) {
+        int length = s.length();
+        int fractionDigits = 0;
+        if (i < length && s.charAt(i) == '.') {
+            i++;
+            while (i < length && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+                fractionDigits++;
+            }
+        }
+        if (integerDigits + fractionDigits == 0) {
+            return false;
+        }
+        if (i < length && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < length && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    /**
+     * @return {@code true} if the last parsed value is an integral number that fits into a {@code long}
+     */
+    boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * @return the last parsed value as a {@code long}; only meaningful if {@link #isIntegral()} is true
+     */
+    long longValue() {
+        return longValue;
+    }
+
+    /**
+     * @return the last parsed value as a {@code double}
+     */
+    double doubleValue() {
+        return doubleValue;
+    }
+}
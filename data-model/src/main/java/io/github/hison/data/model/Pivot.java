@@ -0,0 +1,154 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import io.github.hison.data.converter.DataConverter;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Reshapes a {@link DataModel} between its long form and a crosstab.
+ *
+ * <p>{@link #pivot(DataModel, String[], String, Aggregate)} reads every row once. Output rows, pivot columns
+ * and cells are found with hash tables over the key columns, and the aggregate of every cell is kept in
+ * primitive arrays, so no map is created per input row. The output rows are created once, with their final
+ * columns, after the pass. {@link #unpivot(DataModel, String[], String[], String, String)} creates exactly one
+ * output row per input row and value column.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class Pivot {
+
+    private Pivot() {
+    }
+
+    private static void checkColumns(DataModel source, String[] columns) {
+        for (String column : columns) {
+            if (!source.hasColumn(column)) {
+                throw new DataException("Column " + column + " does not exist.");
+            }
+        }
+    }
+
+    static DataModel pivot(DataModel source, String[] rowKeys, String pivotColumn, Aggregate aggregate) {
+        if (pivotColumn == null || aggregate == null) {
+            throw new DataException("The pivot column and the aggregate must not be null.");
+        }
+        checkColumns(source, rowKeys);
+        checkColumns(source, new String[] { pivotColumn });
+        if (aggregate.getColumn() != null) {
+            checkColumns(source, new String[] { aggregate.getColumn() });
+        }
+        if (new LinkedHashSet<>(Arrays.asList(rowKeys)).size() != rowKeys.length
+                || Arrays.asList(rowKeys).contains(pivotColumn)) {
+            throw new DataException("Duplicate pivot column.");
+        }
+
+        List<HashMap<String, Object>> rows = source.getRowsInternal();
+        String[] pivotColumns = new String[] { pivotColumn };
+        String[] cellColumns = Arrays.copyOf(rowKeys, rowKeys.length + 1);
+        cellColumns[rowKeys.length] = pivotColumn;
+        KeyTable rowTable = new KeyTable(rows, rowKeys, 16);
+        KeyTable pivotTable = new KeyTable(rows, pivotColumns, 16);
+        KeyTable cellTable = new KeyTable(rows, cellColumns, 16);
+        int capacity = 16;
+        int[] cellRows = new int[capacity];
+        int[] cellPivots = new int[capacity];
+        AggregateBuffer buffer = new AggregateBuffer(aggregate, capacity);
+        NumericValue number = new NumericValue();
+        String valueColumn = aggregate.getColumn();
+
+        for (int r = 0; r < rows.size(); r++) {
+            HashMap<String, Object> row = rows.get(r);
+            if (row.get(pivotColumn) == null) {
+                continue;
+            }
+            int outputRow = rowKeys.length == 0 ? 0 : rowTable.add(r);
+            int pivot = pivotTable.add(r);
+            int cell = cellTable.add(r);
+            if (cell >= capacity) {
+                capacity <<= 1;
+                cellRows = Arrays.copyOf(cellRows, capacity);
+                cellPivots = Arrays.copyOf(cellPivots, capacity);
+                buffer.ensureCapacity(capacity);
+            }
+            cellRows[cell] = outputRow;
+            cellPivots[cell] = pivot;
+            Object value = valueColumn == null ? null : row.get(valueColumn);
+            boolean isNumber = value != null && aggregate.isNumeric() && number.parse(value);
+            buffer.add(cell, value, number, isNumber);
+        }
+
+        List<String> outputColumns = new ArrayList<>(Arrays.asList(rowKeys));
+        String[] pivotNames = new String[pivotTable.size()];
+        for (int p = 0; p < pivotNames.length; p++) {
+            pivotNames[p] = String.valueOf(rows.get(pivotTable.getKeyRow(p)).get(pivotColumn));
+            if (outputColumns.contains(pivotNames[p])) {
+                throw new DataException("Duplicate column name: " + pivotNames[p]);
+            }
+            outputColumns.add(pivotNames[p]);
+        }
+
+        int rowCount = rowKeys.length == 0 ? (cellTable.size() > 0 ? 1 : 0) : rowTable.size();
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(rowCount);
+        int mapCapacity = (int) (outputColumns.size() / 0.75f) + 1;
+        for (int o = 0; o < rowCount; o++) {
+            HashMap<String, Object> newRow = new HashMap<>(mapCapacity);
+            HashMap<String, Object> keyRow = rowKeys.length == 0 ? null : rows.get(rowTable.getKeyRow(o));
+            for (String rowKey : rowKeys) {
+                newRow.put(rowKey, keyRow.get(rowKey));
+            }
+            for (String pivotName : pivotNames) {
+                newRow.put(pivotName, null);
+            }
+            newRows.add(newRow);
+        }
+        DataConverter converter = DataConverterFactory.getConverter();
+        boolean convert = aggregate.getType() != Aggregate.Type.MIN && aggregate.getType() != Aggregate.Type.MAX;
+        for (int cell = 0; cell < cellTable.size(); cell++) {
+            Object result = buffer.getResult(cell);
+            newRows.get(cellRows[cell]).put(pivotNames[cellPivots[cell]],
+                    convert ? converter.getConvertValueToDataModelRowValue(result) : result);
+        }
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+
+    static DataModel unpivot(DataModel source, String[] idColumns, String[] valueColumns, String nameColumn,
+            String valueColumn) {
+        if (nameColumn == null || valueColumn == null) {
+            throw new DataException("The name and value columns must not be null.");
+        }
+        checkColumns(source, idColumns);
+        checkColumns(source, valueColumns);
+        if (valueColumns.length == 0) {
+            throw new DataException("At least one value column is required.");
+        }
+        List<String> outputColumns = new ArrayList<>(Arrays.asList(idColumns));
+        outputColumns.add(nameColumn);
+        outputColumns.add(valueColumn);
+        if (new LinkedHashSet<>(outputColumns).size() != outputColumns.size()) {
+            throw new DataException("Duplicate column name in the unpivot result.");
+        }
+
+        List<HashMap<String, Object>> rows = source.getRowsInternal();
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(rows.size() * valueColumns.length);
+        int mapCapacity = (int) (outputColumns.size() / 0.75f) + 1;
+        for (HashMap<String, Object> row : rows) {
+            for (String column : valueColumns) {
+                HashMap<String, Object> newRow = new HashMap<>(mapCapacity);
+                for (String idColumn : idColumns) {
+                    newRow.put(idColumn, row.get(idColumn));
+                }
+                newRow.put(nameColumn, column);
+                newRow.put(valueColumn, row.get(column));
+                newRows.add(newRow);
+            }
+        }
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A changed row of a {@link DataModel}, as reported by {@link DataModel#getChanges()}.
+ *
+ * <p>The current values of the row are available through {@link #getRow()}. For updated and deleted rows,
+ * {@link #getOriginalValues()} holds the original values of the changed cells only, and
+ * {@link #getOriginalRow()} the row as it was when the changes were last accepted, which is useful to identify
+ * the row in a database.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class RowChange {
+    private final RowState state;
+    private final HashMap<String, Object> row;
+    private final HashMap<String, Object> originalValues;
+
+    RowChange(RowState state, HashMap<String, Object> row, HashMap<String, Object> originalValues) {
+        this.state = state;
+        this.row = row;
+        this.originalValues = originalValues;
+    }
+
+    /**
+     * @return whether the row has been inserted, updated or deleted
+     */
+    public RowState getState() {
+        return state;
+    }
+
+    /**
+     * Returns the current values of the row, or for a deleted row its values when it was removed.
+     *
+     * @return a copy of the row
+     */
+    public HashMap<String, Object> getRow() {
+        return new HashMap<String, Object>(row);
+    }
+
+    /**
+     * Returns the original values of the changed cells, by column. Empty for an inserted row.
+     *
+     * @return a copy of the original values of the changed cells
+     */
+    public HashMap<String, Object> getOriginalValues() {
+        return new HashMap<String, Object>(originalValues);
+    }
+
+    /**
+     * Returns the row as it was when the changes were last accepted, or null for an inserted row.
+     *
+     * @return a copy of the original row, or null
+     */
+    public HashMap<String, Object> getOriginalRow() {
+        if (state == RowState.INSERTED) {
+            return null;
+        }
+        HashMap<String, Object> originalRow = new HashMap<>(row);
+        for (Map.Entry<String, Object> entry : originalValues.entrySet()) {
+            if (originalRow.containsKey(entry.getKey())) {
+                originalRow.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return originalRow;
+    }
+}
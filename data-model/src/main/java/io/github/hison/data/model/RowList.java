@@ -0,0 +1,40 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+
+/**
+ * The ascending indexes of the rows with one value in a column index, see {@link TextIndex} and
+ * {@link NormalizedIndex}.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class RowList {
+    int[] rows = new int[2];
+    int size;
+
+    void add(int row) {
+        int position = size == 0 || rows[size - 1] < row ? size : -Arrays.binarySearch(rows, 0, size, row) - 1;
+        if (position < 0) {
+            return;
+        }
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+        }
+        System.arraycopy(rows, position, rows, position + 1, size - position);
+        rows[position] = row;
+        size++;
+    }
+
+    void remove(int row) {
+        int position = Arrays.binarySearch(rows, 0, size, row);
+        if (position >= 0) {
+            System.arraycopy(rows, position + 1, rows, position, size - position - 1);
+            size--;
+        }
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(rows, size);
+    }
+}
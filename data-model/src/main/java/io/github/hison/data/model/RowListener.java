@@ -0,0 +1,40 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+
+/**
+ * Receives the row changes of a {@link DataModel}, so that derived structures can be maintained
+ * incrementally instead of being rebuilt from all rows.
+ *
+ * <p>Every event is sent after the change has been applied. Changes to many rows at once, such as
+ * {@link DataModel#filterAndModify(java.util.function.Predicate)}, are reported as a sequence of single-row
+ * events that leads to the same result. Changes that affect the order or the columns of all rows, such as
+ * sorting or removing a column, are reported with {@link #rowsReset()}, after which a listener should
+ * re-read the rows it depends on.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+interface RowListener {
+    /**
+     * A row has been inserted at the given index.
+     */
+    void rowInserted(int index, HashMap<String, Object> row);
+
+    /**
+     * A value of the row at the given index has been changed.
+     *
+     * @param oldValue the value of the column before the change
+     */
+    void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue);
+
+    /**
+     * The row that was at the given index has been removed.
+     */
+    void rowRemoved(int index, HashMap<String, Object> row);
+
+    /**
+     * The order, the columns or the whole content of the rows has changed.
+     */
+    void rowsReset();
+}
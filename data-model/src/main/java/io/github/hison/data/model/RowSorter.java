@@ -0,0 +1,188 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Sorts rows by one or more {@link SortKey}s through a permutation of row positions.
+ *
+ * <p>The sort keys are extracted from the rows once into {@link SortColumn}s, and an {@code int} array of row
+ * positions is sorted with a stable merge sort that only compares the extracted keys. The rows themselves are
+ * not touched; the caller reorders them once, if at all, according to the returned permutation.</p>
+ *
+ * <p>{@link #parallelSort(List, SortKey[])} sorts the two halves of each range in parallel in the common
+ * {@link ForkJoinPool} and merges them the same way, so its result is identical to {@link #sort(List, SortKey[])}.
+ * The extracted keys are only read while sorting, so they can be shared by all threads.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class RowSorter {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    /** Ranges smaller than this are sorted sequentially by {@link #parallelSort(List, SortKey[])}. */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private RowSorter() {
+    }
+
+    /**
+     * Checks that the sort keys are present and refer to existing columns.
+     */
+    static void checkKeys(DataModel model, SortKey[] keys) {
+        if (keys == null || keys.length == 0) {
+            throw new DataException("At least one sort key is required.");
+        }
+        for (SortKey key : keys) {
+            if (key == null) {
+                throw new DataException("The sort key must not be null.");
+            }
+            if (!model.hasColumn(key.getColumn())) {
+                throw new DataException("Column " + key.getColumn() + " does not exist.");
+            }
+        }
+    }
+
+    /**
+     * Extracts the sort keys of the rows and returns a comparator of row positions.
+     */
+    static IndexComparator getComparator(List<HashMap<String, Object>> rows, SortKey[] keys) {
+        if (keys.length == 1) {
+            return new SortColumn(rows, keys[0]);
+        }
+        final SortColumn[] columns = new SortColumn[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            columns[i] = new SortColumn(rows, keys[i]);
+        }
+        return (i, j) -> {
+            for (SortColumn column : columns) {
+                int result = column.compare(i, j);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Returns the positions of the rows in sorted order. Rows with equal keys keep their original order.
+     */
+    static int[] sort(List<HashMap<String, Object>> rows, SortKey[] keys) {
+        return sort(rows.size(), getComparator(rows, keys));
+    }
+
+    /**
+     * Returns the positions {@code 0} to {@code size - 1} in the order of the comparator.
+     * Positions that compare equal keep their original order.
+     */
+    static int[] sort(int size, IndexComparator comparator) {
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        mergeSort(permutation, new int[size], 0, size, comparator);
+        return permutation;
+    }
+
+    /**
+     * Returns the positions of the rows in sorted order, sorting large ranges in parallel.
+     * The result is the same as {@link #sort(List, SortKey[])}.
+     */
+    static int[] parallelSort(List<HashMap<String, Object>> rows, SortKey[] keys) {
+        IndexComparator comparator = getComparator(rows, keys);
+        int size = rows.size();
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        int[] aux = new int[size];
+        if (size < PARALLEL_SORT_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            mergeSort(permutation, aux, 0, size, comparator);
+        } else {
+            ForkJoinPool.commonPool().invoke(new MergeSortTask(permutation, aux, 0, size, comparator));
+        }
+        return permutation;
+    }
+
+    private static final class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] a;
+        private final int[] aux;
+        private final int from;
+        private final int to;
+        private final transient IndexComparator comparator;
+
+        private MergeSortTask(int[] a, int[] aux, int from, int to, IndexComparator comparator) {
+            this.a = a;
+            this.aux = aux;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_SORT_THRESHOLD) {
+                mergeSort(a, aux, from, to, comparator);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeSortTask(a, aux, from, mid, comparator),
+                    new MergeSortTask(a, aux, mid, to, comparator));
+            if (comparator.compare(a[mid - 1], a[mid]) > 0) {
+                merge(a, aux, from, mid, to, comparator);
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code a[from, to)} stably, using {@code aux[from, to)} as a buffer.
+     */
+    static void mergeSort(int[] a, int[] aux, int from, int to, IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, aux, from, mid, comparator);
+        mergeSort(a, aux, mid, to, comparator);
+        if (comparator.compare(a[mid - 1], a[mid]) <= 0) {
+            return;
+        }
+        merge(a, aux, from, mid, to, comparator);
+    }
+
+    /**
+     * Merges the sorted ranges {@code a[from, mid)} and {@code a[mid, to)}, preferring the left range on ties.
+     */
+    static void merge(int[] a, int[] aux, int from, int mid, int to, IndexComparator comparator) {
+        System.arraycopy(a, from, aux, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (i >= mid) {
+                a[k] = aux[j++];
+            } else if (j >= to || comparator.compare(aux[i], aux[j]) <= 0) {
+                a[k] = aux[i++];
+            } else {
+                a[k] = aux[j++];
+            }
+        }
+    }
+
+    private static void insertionSort(int[] a, int from, int to, IndexComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(a[j], value) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+}
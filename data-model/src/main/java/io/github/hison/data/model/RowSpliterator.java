@@ -0,0 +1,69 @@
+package io.github.hison.data.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a range of the rows of a {@link DataModel}, used by {@link DataModel#stream()}
+ * and {@link DataModel#parallelStream()}.
+ *
+ * <p>The rows are exposed as unmodifiable views, without copying them. The spliterator splits its range in
+ * halves, so that the sizes of both parts are exact and a parallel stream can distribute the rows evenly
+ * across threads.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class RowSpliterator implements Spliterator<Map<String, Object>> {
+    private final List<HashMap<String, Object>> rows;
+    private int index;
+    private final int fence;
+
+    RowSpliterator(List<HashMap<String, Object>> rows, int origin, int fence) {
+        this.rows = rows;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+        if (index < fence) {
+            action.accept(Collections.unmodifiableMap(rows.get(index++)));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Map<String, Object>> action) {
+        for (int i = index; i < fence; i++) {
+            action.accept(Collections.unmodifiableMap(rows.get(i)));
+        }
+        index = fence;
+    }
+
+    @Override
+    public Spliterator<Map<String, Object>> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator<Map<String, Object>> prefix = new RowSpliterator(rows, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.hison.data.model;
+
+/**
+ * The state of a changed row, as reported by {@link DataModel#getChanges()}.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public enum RowState {
+    /** The row has been added since the changes were last accepted. */
+    INSERTED,
+    /** One or more values of the row have been changed since the changes were last accepted. */
+    UPDATED,
+    /** The row has been removed since the changes were last accepted. */
+    DELETED
+}
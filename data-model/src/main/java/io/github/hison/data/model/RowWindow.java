@@ -0,0 +1,41 @@
+package io.github.hison.data.model;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A read-only window over a range of the rows of a {@link DataModel}, used by {@link DataModel#slice(int, int)}.
+ *
+ * <p>The window reads the rows of the source on every access instead of copying them, so it always reflects
+ * the current rows in the range. Unlike {@link List#subList(int, int)}, it remains usable after rows have been
+ * inserted into or removed from the source; its size shrinks if the source has fewer rows than the range.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class RowWindow extends AbstractList<HashMap<String, Object>> implements RandomAccess {
+    private final List<HashMap<String, Object>> rows;
+    private final int offset;
+    private final int limit;
+
+    RowWindow(List<HashMap<String, Object>> rows, int offset, int limit) {
+        this.rows = rows;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    @Override
+    public HashMap<String, Object> get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return rows.get(offset + index);
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, Math.min(limit, rows.size() - offset));
+    }
+}
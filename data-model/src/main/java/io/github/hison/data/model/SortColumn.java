@@ -0,0 +1,125 @@
+package io.github.hison.data.model;
+
+import java.util.HashMap;
+import java.util.List;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * The sort keys of one column, extracted once from a list of rows.
+ *
+ * <p>Instead of reading the row map, checking the value types and parsing numeric strings on every
+ * comparison, the values are normalized once into a primitive {@code double} array (numbers, booleans and,
+ * with {@code isIntegerOrder}, numeric strings) or a {@code String} array, plus a null flag per row.
+ * Comparisons then follow the same rules as {@link DataModel#sortRowAscending(String, Boolean)}:
+ * nulls are ordered last in ascending order and first in descending order, and mixed types are rejected.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class SortColumn implements IndexComparator {
+    private final boolean ascending;
+    private final boolean[] nulls;
+    private double[] numbers;
+    private String[] strings;
+
+    /**
+     * @param rows the rows to extract the keys from; positions in this list are the positions compared
+     * @param key the sort column and direction
+     * @throws DataException if mixed or unsupported types are encountered, or a string cannot be converted to a number
+     */
+    SortColumn(List<HashMap<String, Object>> rows, SortKey key) {
+        this(rows, key.getColumn(), key.isAscending(), key.isIntegerOrder());
+    }
+
+    /**
+     * @param rows the rows to extract the keys from; positions in this list are the positions compared
+     * @param column the sort column
+     * @param ascending the sort direction
+     * @param isIntegerOrder if true, string values are compared as numbers
+     * @throws DataException if mixed or unsupported types are encountered, or a string cannot be converted to a number
+     */
+    SortColumn(List<HashMap<String, Object>> rows, String column, boolean ascending, boolean isIntegerOrder) {
+        this.ascending = ascending;
+        int size = rows.size();
+        this.nulls = new boolean[size];
+
+        Object[] values = new Object[size];
+        Class<?> kind = null;
+        int nonNullCount = 0;
+        for (int i = 0; i < size; i++) {
+            Object value = rows.get(i).get(column);
+            values[i] = value;
+            if (value == null) {
+                nulls[i] = true;
+                continue;
+            }
+            nonNullCount++;
+            Class<?> valueKind = getKind(value);
+            if (kind == null) {
+                kind = valueKind;
+            } else if (kind != valueKind) {
+                throw new DataException("Mixed types are not allowed");
+            }
+        }
+        if (nonNullCount > 1 && kind == Object.class) {
+            throw new DataException("Unsupported type or mixed types are not allowed");
+        }
+
+        if (kind == String.class && !isIntegerOrder) {
+            strings = new String[size];
+            for (int i = 0; i < size; i++) {
+                if (!nulls[i]) {
+                    strings[i] = values[i].toString();
+                }
+            }
+        } else if (kind != null && kind != Object.class) {
+            numbers = new double[size];
+            for (int i = 0; i < size; i++) {
+                if (nulls[i]) {
+                    continue;
+                }
+                Object value = values[i];
+                if (kind == Boolean.class) {
+                    numbers[i] = ((Boolean) value) ? 1 : 0;
+                } else if (kind == Number.class) {
+                    numbers[i] = ((Number) value).doubleValue();
+                } else {
+                    numbers[i] = ValueComparator.parseNumber(value);
+                }
+            }
+        }
+    }
+
+    private static Class<?> getKind(Object value) {
+        if (value instanceof String || value instanceof Character) {
+            return String.class;
+        }
+        if (value instanceof Boolean) {
+            return Boolean.class;
+        }
+        if (value instanceof Number) {
+            return Number.class;
+        }
+        return Object.class;
+    }
+
+    @Override
+    public int compare(int i, int j) {
+        boolean null1 = nulls[i];
+        boolean null2 = nulls[j];
+        int result;
+        if (null1 || null2) {
+            result = null1 == null2 ? 0 : (null1 ? 1 : -1);
+            return ascending ? result : -result;
+        }
+        if (numbers != null) {
+            result = Double.compare(numbers[i], numbers[j]);
+        } else if (strings != null) {
+            result = strings[i].compareTo(strings[j]);
+        } else {
+            result = 0;
+        }
+        return ascending ? result : -result;
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.hison.data.model;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Describes one column of a row ordering, used by {@link DataModel#sortRows(SortKey...)},
+ * {@link DataModel#getSortedRowIndexes(SortKey...)}, {@link DataModel#topN(int, SortKey...)} and
+ * {@link DataQuery#orderBy(SortKey...)}.
+ *
+ * <p>Values are ordered with the same rules as {@link DataModel#sortRowAscending(String, Boolean)}:
+ * strings in their natural order, or as numbers with {@code isIntegerOrder}, booleans with {@code false}
+ * first and numbers by their numeric value. Null values come last in ascending order and first in
+ * descending order. A column containing values of different types cannot be ordered.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * import static io.github.hison.data.model.SortKey.asc;
+ * import static io.github.hison.data.model.SortKey.desc;
+ *
+ * dataModel.sortRows(asc("dept"), desc("salary", true));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class SortKey {
+    private final String column;
+    private final boolean ascending;
+    private final boolean isIntegerOrder;
+
+    private SortKey(String column, boolean ascending, boolean isIntegerOrder) {
+        if (column == null) {
+            throw new DataException("The column of a sort key must not be null.");
+        }
+        this.column = column;
+        this.ascending = ascending;
+        this.isIntegerOrder = isIntegerOrder;
+    }
+
+    /**
+     * Orders by a column in ascending order.
+     *
+     * @param column the column to order by
+     * @return a new ascending sort key
+     */
+    public static SortKey asc(String column) {
+        return new SortKey(column, true, false);
+    }
+
+    /**
+     * Orders by a column in ascending order, with an option to treat the string values as numbers.
+     *
+     * @param column the column to order by
+     * @param isIntegerOrder if true, string values are ordered by their numeric value
+     * @return a new ascending sort key
+     */
+    public static SortKey asc(String column, boolean isIntegerOrder) {
+        return new SortKey(column, true, isIntegerOrder);
+    }
+
+    /**
+     * Orders by a column in descending order.
+     *
+     * @param column the column to order by
+     * @return a new descending sort key
+     */
+    public static SortKey desc(String column) {
+        return new SortKey(column, false, false);
+    }
+
+    /**
+     * Orders by a column in descending order, with an option to treat the string values as numbers.
+     *
+     * @param column the column to order by
+     * @param isIntegerOrder if true, string values are ordered by their numeric value
+     * @return a new descending sort key
+     */
+    public static SortKey desc(String column, boolean isIntegerOrder) {
+        return new SortKey(column, false, isIntegerOrder);
+    }
+
+    /**
+     * Orders by a column in the given direction.
+     *
+     * @param column the column to order by
+     * @param ascending if true, the order is ascending, otherwise descending
+     * @param isIntegerOrder if true, string values are ordered by their numeric value
+     * @return a new sort key
+     */
+    public static SortKey of(String column, boolean ascending, boolean isIntegerOrder) {
+        return new SortKey(column, ascending, isIntegerOrder);
+    }
+
+    /**
+     * @return the column to order by
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * @return true if the order is ascending, false if it is descending
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * @return true if string values are ordered by their numeric value
+     */
+    public boolean isIntegerOrder() {
+        return isIntegerOrder;
+    }
+
+    @Override
+    public String toString() {
+        return column + (ascending ? " ASC" : " DESC");
+    }
+}
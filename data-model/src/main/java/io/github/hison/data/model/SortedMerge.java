@@ -0,0 +1,261 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Merge-based operations over {@link DataModel}s whose rows are already sorted.
+ *
+ * <p>Both the merge join and the k-way merge read every input once, sequentially, and keep only a row
+ * position per input. The sort order of the inputs is verified while they are read; an input that is not
+ * sorted results in a {@link DataException}. Values are ordered with the same rules as
+ * {@link DataModel#sortRowAscending(String, Boolean)}, so null values come last in ascending order. The merge
+ * join pairs rows only if their keys are also equal with {@link Objects#equals(Object, Object)}, like
+ * {@link HashJoin}.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    private static int compareKeys(HashMap<String, Object> row1, HashMap<String, Object> row2, String[] columns,
+            boolean isIntegerOrder) {
+        for (String column : columns) {
+            int result = ValueComparator.compare(row1.get(column), row2.get(column), isIntegerOrder);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static void checkSorted(List<HashMap<String, Object>> rows, int index, String[] columns,
+            boolean isIntegerOrder, int direction) {
+        if (index > 0 && direction * compareKeys(rows.get(index - 1), rows.get(index), columns, isIntegerOrder) > 0) {
+            throw new DataException("The DataModel is not sorted by the column: " + String.join(", ", columns));
+        }
+    }
+
+    /**
+     * Joins two DataModels that are both sorted in ascending order of the join columns.
+     */
+    static DataModel mergeJoin(DataModel left, DataModel right, List<String> onColumnList, JoinType joinType,
+            boolean isIntegerOrder) {
+        String[] onColumns = HashJoin.checkJoin(left, right, onColumnList, joinType);
+        List<String> rightColumns = HashJoin.getRightOutputColumns(left, right, onColumns, joinType);
+        List<HashMap<String, Object>> leftRows = left.getRowsInternal();
+        List<HashMap<String, Object>> rightRows = right.getRowsInternal();
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>();
+
+        int i = 0;
+        int j = 0;
+        int leftSize = leftRows.size();
+        int rightSize = rightRows.size();
+        while (i < leftSize) {
+            checkSorted(leftRows, i, onColumns, isIntegerOrder, 1);
+            HashMap<String, Object> leftRow = leftRows.get(i);
+            if (KeyTable.hasNullKey(leftRow, onColumns)) {
+                addUnmatched(leftRow, rightColumns, joinType, newRows);
+                i++;
+                continue;
+            }
+            int result = 1;
+            while (j < rightSize) {
+                checkSorted(rightRows, j, onColumns, isIntegerOrder, 1);
+                HashMap<String, Object> rightRow = rightRows.get(j);
+                // A right row with a null key never matches, but the rows after it still may.
+                if (KeyTable.hasNullKey(rightRow, onColumns)) {
+                    j++;
+                    continue;
+                }
+                result = compareKeys(leftRow, rightRow, onColumns, isIntegerOrder);
+                if (result <= 0) {
+                    break;
+                }
+                j++;
+            }
+            if (j >= rightSize || result < 0) {
+                addUnmatched(leftRow, rightColumns, joinType, newRows);
+                i++;
+                continue;
+            }
+
+            // Find the run of right rows with the current key, then pair every left row of the same key with it.
+            int runEnd = j + 1;
+            while (runEnd < rightSize) {
+                checkSorted(rightRows, runEnd, onColumns, isIntegerOrder, 1);
+                HashMap<String, Object> rightRow = rightRows.get(runEnd);
+                if (!KeyTable.hasNullKey(rightRow, onColumns)
+                        && compareKeys(leftRow, rightRow, onColumns, isIntegerOrder) != 0) {
+                    break;
+                }
+                runEnd++;
+            }
+            // Keys that compare as equal, like 1 and 1L, or "1" and "01" as numbers, may still differ, so rows
+            // are only paired if their keys are equal as in the hash join.
+            HashMap<String, Object> keyRow = leftRow;
+            do {
+                leftRow = leftRows.get(i);
+                boolean matched = false;
+                for (int r = j; r < runEnd; r++) {
+                    HashMap<String, Object> rightRow = rightRows.get(r);
+                    if (!keysEqual(leftRow, rightRow, onColumns)) {
+                        continue;
+                    }
+                    matched = true;
+                    if (joinType == JoinType.SEMI) {
+                        newRows.add(new HashMap<String, Object>(leftRow));
+                        break;
+                    }
+                    HashMap<String, Object> newRow = new HashMap<>(leftRow);
+                    for (String column : rightColumns) {
+                        newRow.put(column, rightRow.get(column));
+                    }
+                    newRows.add(newRow);
+                }
+                if (!matched) {
+                    addUnmatched(leftRow, rightColumns, joinType, newRows);
+                }
+                i++;
+                if (i < leftSize) {
+                    checkSorted(leftRows, i, onColumns, isIntegerOrder, 1);
+                }
+            } while (i < leftSize && compareKeys(keyRow, leftRows.get(i), onColumns, isIntegerOrder) == 0);
+            j = runEnd;
+        }
+
+        List<String> outputColumns = new ArrayList<>(left.getColumns());
+        outputColumns.addAll(rightColumns);
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+
+    private static boolean keysEqual(HashMap<String, Object> row1, HashMap<String, Object> row2, String[] columns) {
+        for (String column : columns) {
+            if (!Objects.equals(row1.get(column), row2.get(column))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addUnmatched(HashMap<String, Object> leftRow, List<String> rightColumns, JoinType joinType,
+            List<HashMap<String, Object>> newRows) {
+        if (joinType != JoinType.LEFT) {
+            return;
+        }
+        HashMap<String, Object> newRow = new HashMap<>(leftRow);
+        for (String column : rightColumns) {
+            newRow.put(column, null);
+        }
+        newRows.add(newRow);
+    }
+
+    /**
+     * Merges DataModels that are each sorted by the same column into one sorted DataModel.
+     *
+     * @param direction 1 for ascending, -1 for descending
+     */
+    static DataModel mergeSorted(String column, boolean isIntegerOrder, int direction, DataModel[] models) {
+        if (models == null || models.length == 0) {
+            throw new DataException("At least one DataModel is required.");
+        }
+        LinkedHashSet<String> outputColumns = new LinkedHashSet<>();
+        int total = 0;
+        for (DataModel model : models) {
+            if (!model.hasColumn(column)) {
+                throw new DataException("Column " + column + " does not exist.");
+            }
+            outputColumns.addAll(model.getColumns());
+            total += model.getRowCount();
+        }
+        String[] columns = new String[] { column };
+
+        // A binary min-heap of input indexes, ordered by the current row of each input and then by input index.
+        int k = models.length;
+        int[] positions = new int[k];
+        int[] heap = new int[k];
+        int heapSize = 0;
+        for (int m = 0; m < k; m++) {
+            if (models[m].getRowCount() > 0) {
+                heap[heapSize] = m;
+                siftUp(heap, heapSize++, models, positions, column, isIntegerOrder, direction);
+            }
+        }
+
+        ArrayList<HashMap<String, Object>> newRows = new ArrayList<>(total);
+        while (heapSize > 0) {
+            int m = heap[0];
+            List<HashMap<String, Object>> rows = models[m].getRowsInternal();
+            HashMap<String, Object> newRow = new HashMap<>(rows.get(positions[m]));
+            for (String outputColumn : outputColumns) {
+                if (!newRow.containsKey(outputColumn)) {
+                    newRow.put(outputColumn, null);
+                }
+            }
+            newRows.add(newRow);
+
+            positions[m]++;
+            if (positions[m] < rows.size()) {
+                checkSorted(rows, positions[m], columns, isIntegerOrder, direction);
+            } else {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, models, positions, column, isIntegerOrder, direction);
+        }
+        return DataModel.fromInternalRows(outputColumns, newRows);
+    }
+
+    private static int compareInputs(int m1, int m2, DataModel[] models, int[] positions, String column,
+            boolean isIntegerOrder, int direction) {
+        Object v1 = models[m1].getRowsInternal().get(positions[m1]).get(column);
+        Object v2 = models[m2].getRowsInternal().get(positions[m2]).get(column);
+        int result = direction > 0
+                ? ValueComparator.compare(v1, v2, isIntegerOrder)
+                : ValueComparator.compare(v2, v1, isIntegerOrder);
+        return result != 0 ? result : Integer.compare(m1, m2);
+    }
+
+    private static void siftUp(int[] heap, int index, DataModel[] models, int[] positions, String column,
+            boolean isIntegerOrder, int direction) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compareInputs(heap[index], heap[parent], models, positions, column, isIntegerOrder, direction) >= 0) {
+                break;
+            }
+            int tmp = heap[index];
+            heap[index] = heap[parent];
+            heap[parent] = tmp;
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, DataModel[] models, int[] positions, String column,
+            boolean isIntegerOrder, int direction) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && compareInputs(heap[child + 1], heap[child], models, positions, column,
+                    isIntegerOrder, direction) < 0) {
+                child++;
+            }
+            if (compareInputs(heap[index], heap[child], models, positions, column, isIntegerOrder, direction) <= 0) {
+                break;
+            }
+            int tmp = heap[index];
+            heap[index] = heap[child];
+            heap[child] = tmp;
+            index = child;
+        }
+    }
+}
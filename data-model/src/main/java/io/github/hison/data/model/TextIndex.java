@@ -0,0 +1,209 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.hison.data.condition.TextMatch;
+
+/**
+ * An index of the string form of the values of one column, answering {@link TextMatch} conditions without
+ * reading the rows.
+ *
+ * <p>The distinct values are kept in a sorted map to the ascending indexes of their rows, so the values with a
+ * given prefix form one contiguous range of the map. With substring search enabled, every distinct value is
+ * also registered under each of its trigrams (substrings of three characters); a text of three or more
+ * characters is then looked up under its rarest trigram and only the values found there are checked, while a
+ * shorter text is checked against the distinct values instead of the rows.</p>
+ *
+ * <p>Appending rows and changing values update the index in place. Inserting or removing a row before the end
+ * shifts the indexes of the following rows, so like a reset it causes the index to be rebuilt on the next
+ * search.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class TextIndex implements RowListener {
+    private static final int GRAM = 3;
+
+    private final DataModel model;
+    private final String column;
+    private final boolean substring;
+    private final TreeMap<String, RowList> values = new TreeMap<>();
+    private final Map<String, Set<String>> grams = new HashMap<>();
+    private boolean stale = true;
+
+    TextIndex(DataModel model, String column, boolean substring) {
+        this.model = model;
+        this.column = column;
+        this.substring = substring;
+    }
+
+    boolean isSubstring() {
+        return substring;
+    }
+
+    /**
+     * Returns the ascending indexes of the rows whose value matches the text condition.
+     */
+    int[] getMatchingRows(TextMatch match) {
+        rebuildIfStale();
+        String text = match.getText();
+        RowsBuilder result = new RowsBuilder();
+        if (match.isPrefix()) {
+            NavigableMap<String, RowList> range = values.tailMap(text, true);
+            for (Map.Entry<String, RowList> entry : range.entrySet()) {
+                if (!entry.getKey().startsWith(text)) {
+                    break;
+                }
+                result.add(entry.getValue());
+            }
+        } else if (substring && text.length() >= GRAM) {
+            Set<String> candidates = null;
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                Set<String> posting = grams.get(text.substring(i, i + GRAM));
+                if (posting == null) {
+                    return new int[0];
+                }
+                if (candidates == null || posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+            }
+            for (String value : candidates) {
+                if (value.contains(text)) {
+                    result.add(values.get(value));
+                }
+            }
+        } else {
+            for (Map.Entry<String, RowList> entry : values.entrySet()) {
+                if (entry.getKey().contains(text)) {
+                    result.add(entry.getValue());
+                }
+            }
+        }
+        return result.toSortedArray();
+    }
+
+    private static final class RowsBuilder {
+        private int[] rows = new int[16];
+        private int size;
+        private int lists;
+
+        void add(RowList list) {
+            if (size + list.size > rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(rows.length * 2, size + list.size));
+            }
+            System.arraycopy(list.rows, 0, rows, size, list.size);
+            size += list.size;
+            lists++;
+        }
+
+        int[] toSortedArray() {
+            int[] result = Arrays.copyOf(rows, size);
+            if (lists > 1) {
+                Arrays.sort(result);
+            }
+            return result;
+        }
+    }
+
+    private void rebuildIfStale() {
+        if (!stale) {
+            return;
+        }
+        values.clear();
+        grams.clear();
+        List<HashMap<String, Object>> rows = model.getRowsInternal();
+        for (int i = 0; i < rows.size(); i++) {
+            add(rows.get(i).get(column), i);
+        }
+        stale = false;
+    }
+
+    private void add(Object value, int row) {
+        if (value == null) {
+            return;
+        }
+        String key = value.toString();
+        RowList list = values.get(key);
+        if (list == null) {
+            list = new RowList();
+            values.put(key, list);
+            if (substring) {
+                for (int i = 0; i + GRAM <= key.length(); i++) {
+                    grams.computeIfAbsent(key.substring(i, i + GRAM), k -> new HashSet<>()).add(key);
+                }
+            }
+        }
+        list.add(row);
+    }
+
+    private void remove(Object value, int row) {
+        if (value == null) {
+            return;
+        }
+        String key = value.toString();
+        RowList list = values.get(key);
+        if (list == null) {
+            return;
+        }
+        list.remove(row);
+        if (list.size == 0) {
+            values.remove(key);
+            if (substring) {
+                for (int i = 0; i + GRAM <= key.length(); i++) {
+                    String gram = key.substring(i, i + GRAM);
+                    Set<String> posting = grams.get(gram);
+                    if (posting != null) {
+                        posting.remove(key);
+                        if (posting.isEmpty()) {
+                            grams.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void rowInserted(int index, HashMap<String, Object> row) {
+        if (stale) {
+            return;
+        }
+        if (index != model.getRowCount() - 1) {
+            stale = true;
+            return;
+        }
+        add(row.get(column), index);
+    }
+
+    @Override
+    public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        if (!stale && this.column.equals(column)) {
+            remove(oldValue, index);
+            add(row.get(column), index);
+        }
+    }
+
+    @Override
+    public void rowRemoved(int index, HashMap<String, Object> row) {
+        if (stale) {
+            return;
+        }
+        if (index != model.getRowCount()) {
+            stale = true;
+            return;
+        }
+        remove(row.get(column), index);
+    }
+
+    @Override
+    public void rowsReset() {
+        stale = true;
+    }
+}
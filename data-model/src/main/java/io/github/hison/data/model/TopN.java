@@ -0,0 +1,89 @@
+package io.github.hison.data.model;
+
+/**
+ * Selects the first rows of an ordering without sorting all rows.
+ *
+ * <p>A bounded binary heap keeps the {@code k} best positions seen so far, with the worst of them on top,
+ * so selecting {@code k} of {@code n} rows costs O(n log k) comparisons and O(k) memory. Rows that compare
+ * equal keep their original order, as with a stable sort.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class TopN {
+
+    private TopN() {
+    }
+
+    private static int compare(IndexComparator comparator, int i, int j) {
+        int result = comparator.compare(i, j);
+        return result != 0 ? result : Integer.compare(i, j);
+    }
+
+    /**
+     * Returns the positions of the first {@code k} rows in the order defined by the comparator.
+     *
+     * @param size the number of rows
+     * @param k the number of rows to select
+     * @param comparator compares two row positions
+     * @return the selected positions, in order
+     */
+    static int[] select(int size, int k, IndexComparator comparator) {
+        k = Math.min(k, size);
+        int[] heap = new int[k];
+        if (k == 0) {
+            return heap;
+        }
+        int heapSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (heapSize < k) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, comparator);
+            } else if (compare(comparator, i, heap[0]) < 0) {
+                heap[0] = i;
+                siftDown(heap, heapSize, comparator);
+            }
+        }
+        // Pop the worst element repeatedly to lay out the selection in order.
+        for (int end = heapSize - 1; end > 0; end--) {
+            int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, end, comparator);
+        }
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int index, IndexComparator comparator) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(comparator, heap[index], heap[parent]) <= 0) {
+                break;
+            }
+            int tmp = heap[index];
+            heap[index] = heap[parent];
+            heap[parent] = tmp;
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, IndexComparator comparator) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && compare(comparator, heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (compare(comparator, heap[index], heap[child]) >= 0) {
+                break;
+            }
+            int tmp = heap[index];
+            heap[index] = heap[child];
+            heap[child] = tmp;
+            index = child;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.hison.data.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.TreeSet;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * The first rows of a {@link DataModel} in the order of one or more {@link SortKey}s, kept up to date as the
+ * DataModel changes, created by {@link DataModel#createTopNView(int, SortKey...)}.
+ *
+ * <p>The view keeps a sorted set of at most {@code n} rows together with the sort key values they had when they
+ * entered it. An inserted or updated row is compared with the last row of the view and enters it if it is
+ * ordered before it, in logarithmic time. Only when a row leaves the view while other rows of the DataModel
+ * are outside of it, because it was removed or its sort values got worse, is the DataModel rescanned to find
+ * its replacement. Reading the view costs time proportional to {@code n}.</p>
+ *
+ * <p>Values are ordered like {@link DataModel#sortRows(SortKey...)}. Rows with equal sort values are ordered by
+ * the time they entered the view; after a rescan, by their order in the DataModel.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * TopNView latest = dataModel.createTopNView(20, SortKey.desc("regdate"));
+ * dataModel.addRow(newRow);
+ * DataModel result = latest.toDataModel();
+ * </pre>
+ *
+ * <p><b>Note:</b> Like the DataModel, a view is not thread-safe. Call {@link #close()} when the view is no
+ * longer needed, so that the DataModel stops maintaining it.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class TopNView {
+    private final DataModel source;
+    private final int limit;
+    private final SortKey[] keys;
+    private final TreeSet<Entry> entries = new TreeSet<>(this::compare);
+    private final IdentityHashMap<HashMap<String, Object>, Entry> members = new IdentityHashMap<>();
+    private long nextSequence;
+
+    private static final class Entry {
+        private final HashMap<String, Object> row;
+        private final Object[] values;
+        private final long sequence;
+
+        private Entry(HashMap<String, Object> row, Object[] values, long sequence) {
+            this.row = row;
+            this.values = values;
+            this.sequence = sequence;
+        }
+    }
+
+    private final RowListener listener = new RowListener() {
+        @Override
+        public void rowInserted(int index, HashMap<String, Object> row) {
+            offer(row);
+        }
+
+        @Override
+        public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+            if (isKeyColumn(column)) {
+                update(row);
+            }
+        }
+
+        @Override
+        public void rowRemoved(int index, HashMap<String, Object> row) {
+            Entry entry = members.remove(row);
+            if (entry != null) {
+                entries.remove(entry);
+                // The rows outside of the view are not known, so one of them must be found by a rescan.
+                if (source.getRowCount() > entries.size()) {
+                    rebuild();
+                }
+            }
+        }
+
+        @Override
+        public void rowsReset() {
+            rebuild();
+        }
+    };
+
+    TopNView(DataModel source, int limit, SortKey[] keys) {
+        RowSorter.checkKeys(source, keys);
+        if (limit < 0) {
+            throw new DataException("The number of rows must not be negative: " + limit);
+        }
+        this.source = source;
+        this.limit = limit;
+        this.keys = keys;
+        rebuild();
+        source.addRowListener(listener);
+    }
+
+    private boolean isKeyColumn(String column) {
+        for (SortKey key : keys) {
+            if (key.getColumn().equals(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int compare(Entry e1, Entry e2) {
+        for (int i = 0; i < keys.length; i++) {
+            int result = ValueComparator.compare(e1.values[i], e2.values[i], false);
+            if (result != 0) {
+                return keys[i].isAscending() ? result : -result;
+            }
+        }
+        return Long.compare(e1.sequence, e2.sequence);
+    }
+
+    private Entry createEntry(HashMap<String, Object> row) {
+        Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Object value = row.get(keys[i].getColumn());
+            if (value != null && keys[i].isIntegerOrder() && (value instanceof String || value instanceof Character)) {
+                value = ValueComparator.parseNumber(value);
+            }
+            values[i] = value;
+        }
+        return new Entry(row, values, nextSequence++);
+    }
+
+    /**
+     * Offers a row that is not in the view.
+     */
+    private void offer(HashMap<String, Object> row) {
+        if (limit == 0) {
+            return;
+        }
+        Entry entry = createEntry(row);
+        if (entries.size() < limit) {
+            add(entry);
+        } else if (compare(entry, entries.last()) < 0) {
+            add(entry);
+            members.remove(entries.pollLast().row);
+        }
+    }
+
+    private void add(Entry entry) {
+        entries.add(entry);
+        members.put(entry.row, entry);
+    }
+
+    /**
+     * Applies a change of the sort values of a row.
+     */
+    private void update(HashMap<String, Object> row) {
+        Entry entry = members.remove(row);
+        if (entry == null) {
+            offer(row);
+            return;
+        }
+        // Every row outside of the view is ordered after the last row of the view, so the row stays in the view
+        // if it is still ordered before it. Otherwise a row outside of the view may have to take its place.
+        Entry last = entries.last();
+        entries.remove(entry);
+        Entry updated = createEntry(row);
+        if (compare(updated, last) <= 0 || source.getRowCount() - entries.size() <= 1) {
+            add(updated);
+            if (entries.size() > limit) {
+                members.remove(entries.pollLast().row);
+            }
+        } else {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        entries.clear();
+        members.clear();
+        for (HashMap<String, Object> row : source.getRowsInternal()) {
+            offer(row);
+        }
+    }
+
+    /**
+     * @return the number of rows in the view
+     */
+    public int getRowCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns copies of the rows in the view, in order.
+     *
+     * @return a new list containing a copy of every row in the view
+     */
+    public List<HashMap<String, Object>> getRows() {
+        List<HashMap<String, Object>> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            result.add(new HashMap<String, Object>(entry.row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rows in the view, in order, as a new {@link DataModel} with the columns of the source DataModel.
+     *
+     * @return a new DataModel containing a copy of every row in the view
+     */
+    public DataModel toDataModel() {
+        ArrayList<HashMap<String, Object>> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            result.add(new HashMap<String, Object>(entry.row));
+        }
+        return DataModel.fromInternalRows(source.getColumns(), result);
+    }
+
+    /**
+     * Stops maintaining the view. The view keeps its last content.
+     */
+    public void close() {
+        source.removeRowListener(listener);
+    }
+}
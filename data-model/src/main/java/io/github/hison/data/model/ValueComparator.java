@@ -0,0 +1,74 @@
+package io.github.hison.data.model;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Compares single cell values of a {@link DataModel} with the same rules used by the row sorting methods.
+ *
+ * <p>Null values are ordered after every non-null value. Strings and characters are compared
+ * lexicographically, or numerically when {@code isIntegerOrder} is set. Booleans and numbers are compared
+ * by their natural order. Comparing values of different kinds results in a {@link DataException}.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class ValueComparator {
+
+    private ValueComparator() {
+    }
+
+    /**
+     * Compares two cell values in ascending order, placing null values last.
+     *
+     * @param v1 the first value
+     * @param v2 the second value
+     * @param isIntegerOrder if true, string values are compared as numbers
+     * @return a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second
+     * @throws DataException if mixed or unsupported types are encountered, or a string cannot be converted to a number
+     */
+    static int compare(Object v1, Object v2, boolean isIntegerOrder) {
+        if (v1 == null) return v2 == null ? 0 : 1;
+        if (v2 == null) return -1;
+
+        if (v1 instanceof String || v1 instanceof Character) {
+            if (!(v2 instanceof String || v2 instanceof Character)) {
+                throw new DataException("Mixed types are not allowed");
+            }
+            if (isIntegerOrder) {
+                return Double.compare(parseNumber(v1), parseNumber(v2));
+            }
+            return v1.toString().compareTo(v2.toString());
+        }
+
+        if (v1 instanceof Boolean) {
+            if (!(v2 instanceof Boolean)) {
+                throw new DataException("Mixed types are not allowed");
+            }
+            return Boolean.compare((Boolean) v1, (Boolean) v2);
+        }
+
+        if (v1 instanceof Number) {
+            if (!(v2 instanceof Number)) {
+                throw new DataException("Mixed types are not allowed");
+            }
+            return Double.compare(((Number) v1).doubleValue(), ((Number) v2).doubleValue());
+        }
+
+        throw new DataException("Unsupported type or mixed types are not allowed");
+    }
+
+    /**
+     * Parses a string or character cell value as a number.
+     *
+     * @param value the value to parse
+     * @return the parsed number
+     * @throws DataException if the value cannot be converted to a number
+     */
+    static double parseNumber(Object value) {
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            throw new DataException("Cannot convert string to number");
+        }
+    }
+}
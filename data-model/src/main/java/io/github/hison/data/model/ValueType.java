@@ -0,0 +1,26 @@
+package io.github.hison.data.model;
+
+/**
+ * The kind of the non-null values observed in a column, as reported by {@link ColumnStats#getType()}.
+ *
+ * <p>The kinds are those distinguished by the row sorting methods: strings and characters, numbers and
+ * booleans. Values converted by the {@link io.github.hison.data.converter.DataConverter} are usually strings,
+ * even for numeric data; {@link ColumnStats#isNumeric()} tells whether all of them can be read as numbers.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public enum ValueType {
+    /** The column has no non-null value. */
+    NONE,
+    /** All non-null values are strings or characters. */
+    STRING,
+    /** All non-null values are {@link Number}s. */
+    NUMBER,
+    /** All non-null values are booleans. */
+    BOOLEAN,
+    /** All non-null values are of another, single kind. */
+    OTHER,
+    /** The non-null values are of different kinds. */
+    MIXED
+}
@@ -0,0 +1,205 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import io.github.hison.data.converter.DataConverter;
+import io.github.hison.data.converter.DataConverterFactory;
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A window over the rows of a {@link DataModel}, partitioned by zero or more columns and ordered by
+ * {@link SortKey}s, created by {@link DataModel#window(List, SortKey...)}.
+ *
+ * <p>{@link #add(WindowFunction...)} computes all window functions with one sort and a single pass.
+ * Partitions are found with a hash table over the partition columns, then a permutation of row positions
+ * is sorted by partition and by the order keys, and every function is evaluated while walking that
+ * permutation. The results are appended to the DataModel as new columns; the order of its rows is not
+ * changed.</p>
+ *
+ * <p>Null is a partition value like any other value. Rows with equal values of all order keys are peers,
+ * which share a rank and keep their current relative order. Without order keys, all rows of a partition are
+ * peers and are visited in their current order.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * dataModel.window("dept", SortKey.desc("salary", true))
+ *         .add(WindowFunction.rowNumber(), WindowFunction.rank(), WindowFunction.lag("salary", 1));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class Window {
+    private final DataModel source;
+    private final String[] partitionBy;
+    private final SortKey[] orderBy;
+
+    Window(DataModel source, String[] partitionBy, SortKey[] orderBy) {
+        for (String column : partitionBy) {
+            if (!source.hasColumn(column)) {
+                throw new DataException("Column " + column + " does not exist.");
+            }
+        }
+        if (new LinkedHashSet<>(Arrays.asList(partitionBy)).size() != partitionBy.length) {
+            throw new DataException("Duplicate partition column.");
+        }
+        if (orderBy.length > 0) {
+            RowSorter.checkKeys(source, orderBy);
+        }
+        this.source = source;
+        this.partitionBy = partitionBy;
+        this.orderBy = orderBy;
+    }
+
+    /**
+     * Computes the given window functions for every row and appends them to the DataModel as new columns.
+     * Numeric results are converted with {@link DataConverter#getConvertValueToDataModelRowValue(Object)}
+     * like any other value added to a DataModel; {@code lag} and {@code lead} return the original values.
+     *
+     * <p><b>Note:</b> This operation modifies the original DataModel by adding columns. No column is added if
+     * an error occurs.</p>
+     *
+     * @param functions the window functions to compute
+     * @return the modified {@link DataModel}
+     * @throws DataException if a column of a function does not exist, if a result column already exists,
+     *                       if a value of a running sum or moving average cannot be converted to a number,
+     *                       if mixed or unsupported types are encountered in an order column,
+     *                       or if the DataModel is frozen
+     */
+    public DataModel add(WindowFunction... functions) {
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        for (WindowFunction function : functions) {
+            if (function.getColumn() != null && !source.hasColumn(function.getColumn())) {
+                throw new DataException("Column " + function.getColumn() + " does not exist.");
+            }
+            if (source.hasColumn(function.getName()) || !names.add(function.getName())) {
+                throw new DataException("Column " + function.getName() + " already exists.");
+            }
+        }
+        source.checkModifiable();
+
+        final List<HashMap<String, Object>> rows = source.getRowsInternal();
+        final int size = rows.size();
+        final int[] partitions = new int[size];
+        int partitionCount = 1;
+        if (partitionBy.length > 0) {
+            KeyTable table = new KeyTable(rows, partitionBy, 16);
+            for (int r = 0; r < size; r++) {
+                partitions[r] = table.add(r);
+            }
+            partitionCount = table.size();
+        }
+        final IndexComparator order = orderBy.length > 0 ? RowSorter.getComparator(rows, orderBy) : null;
+        int[] permutation = RowSorter.sort(size, (i, j) -> {
+            int result = Integer.compare(partitions[i], partitions[j]);
+            return result != 0 || order == null ? result : order.compare(i, j);
+        });
+
+        Object[][] results = new Object[functions.length][size];
+        AggregateBuffer[] sums = new AggregateBuffer[functions.length];
+        double[][] windowValues = new double[functions.length][];
+        boolean[][] windowNulls = new boolean[functions.length][];
+        for (int f = 0; f < functions.length; f++) {
+            if (functions[f].getType() == WindowFunction.Type.RUNNING_SUM) {
+                sums[f] = new AggregateBuffer(Aggregate.sum(functions[f].getColumn()), partitionCount);
+            } else if (functions[f].getType() == WindowFunction.Type.MOVING_AVG) {
+                windowValues[f] = new double[size];
+                windowNulls[f] = new boolean[size];
+            }
+        }
+
+        DataConverter converter = DataConverterFactory.getConverter();
+        NumericValue number = new NumericValue();
+        int partitionStart = 0;
+        long rowNumber = 0;
+        long rank = 0;
+        long denseRank = 0;
+        double[] movingSums = new double[functions.length];
+        int[] movingCounts = new int[functions.length];
+
+        for (int p = 0; p < size; p++) {
+            int r = permutation[p];
+            HashMap<String, Object> row = rows.get(r);
+            boolean newPartition = p == 0 || partitions[r] != partitions[permutation[p - 1]];
+            if (newPartition) {
+                partitionStart = p;
+                rowNumber = 0;
+                rank = 0;
+                denseRank = 0;
+                Arrays.fill(movingSums, 0);
+                Arrays.fill(movingCounts, 0);
+            }
+            rowNumber++;
+            if (newPartition || (order != null && order.compare(permutation[p - 1], r) != 0)) {
+                rank = rowNumber;
+                denseRank++;
+            }
+
+            for (int f = 0; f < functions.length; f++) {
+                WindowFunction function = functions[f];
+                Object result;
+                switch (function.getType()) {
+                    case ROW_NUMBER:
+                        result = converter.getConvertValueToDataModelRowValue(rowNumber);
+                        break;
+                    case RANK:
+                        result = converter.getConvertValueToDataModelRowValue(rank);
+                        break;
+                    case DENSE_RANK:
+                        result = converter.getConvertValueToDataModelRowValue(denseRank);
+                        break;
+                    case RUNNING_SUM: {
+                        Object value = row.get(function.getColumn());
+                        boolean isNumber = value != null && number.parse(value);
+                        sums[f].add(partitions[r], value, number, isNumber);
+                        result = converter.getConvertValueToDataModelRowValue(sums[f].getResult(partitions[r]));
+                        break;
+                    }
+                    case LAG:
+                    case LEAD: {
+                        int target = function.getType() == WindowFunction.Type.LAG
+                                ? p - function.getOffset() : p + function.getOffset();
+                        if (target >= partitionStart && target < size && partitions[permutation[target]] == partitions[r]) {
+                            result = rows.get(permutation[target]).get(function.getColumn());
+                        } else {
+                            result = converter.getConvertValueToDataModelRowValue(function.getDefaultValue());
+                        }
+                        break;
+                    }
+                    case MOVING_AVG: {
+                        Object value = row.get(function.getColumn());
+                        if (value == null) {
+                            windowNulls[f][p] = true;
+                        } else if (number.parse(value)) {
+                            windowValues[f][p] = number.doubleValue();
+                            movingSums[f] += windowValues[f][p];
+                            movingCounts[f]++;
+                        } else {
+                            throw new DataException("Cannot convert string to number. Column: " + function.getColumn());
+                        }
+                        int leaving = p - function.getOffset();
+                        if (leaving >= partitionStart && !windowNulls[f][leaving]) {
+                            movingSums[f] -= windowValues[f][leaving];
+                            movingCounts[f]--;
+                        }
+                        result = movingCounts[f] == 0 ? null
+                                : converter.getConvertValueToDataModelRowValue(movingSums[f] / movingCounts[f]);
+                        break;
+                    }
+                    default:
+                        result = null;
+                        break;
+                }
+                results[f][r] = result;
+            }
+        }
+
+        for (int f = 0; f < functions.length; f++) {
+            source.putColumnValues(functions[f].getName(), results[f]);
+        }
+        return source;
+    }
+}
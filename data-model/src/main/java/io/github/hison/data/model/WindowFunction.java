@@ -0,0 +1,233 @@
+package io.github.hison.data.model;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Describes a function computed for every row over its partition by {@link Window#add(WindowFunction...)}.
+ *
+ * <p>Window functions are created with the static factory methods and may be renamed with {@link #as(String)}.
+ * Each function is evaluated over the rows of the current row's partition, in the order of the window.
+ * Numeric functions accept numbers as well as numeric strings, which is how the
+ * {@link io.github.hison.data.converter.DataConverter} stores numbers in a {@link DataModel}.</p>
+ *
+ * <ul>
+ *     <li>{@link #rowNumber()} numbers the rows of each partition from 1. Its default column name is {@code row_number}.</li>
+ *     <li>{@link #rank()} ranks the rows of each partition from 1; rows with equal order values share a rank and
+ *         leave a gap after it. Its default column name is {@code rank}.</li>
+ *     <li>{@link #denseRank()} ranks like {@link #rank()} but without gaps. Its default column name is {@code dense_rank}.</li>
+ *     <li>{@link #runningSum(String)} sums the values of a column from the first row of the partition up to the
+ *         current row. Null values are skipped. Its default column name is {@code running_sum_<column>}.</li>
+ *     <li>{@link #lag(String, int)} and {@link #lead(String, int)} return the value of a column a number of rows
+ *         before or after the current row in the partition. Their default column names are {@code lag_<column>}
+ *         and {@code lead_<column>}.</li>
+ *     <li>{@link #movingAvg(String, int)} averages the non-null values of a column over the current row and the
+ *         preceding rows of the partition, up to the window size. Its default column name is {@code moving_avg_<column>}.</li>
+ * </ul>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * dataModel.window("dept", SortKey.desc("salary", true))
+ *         .add(WindowFunction.rank(), WindowFunction.runningSum("salary"), WindowFunction.lag("salary", 1));
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class WindowFunction {
+    enum Type {
+        ROW_NUMBER, RANK, DENSE_RANK, RUNNING_SUM, LAG, LEAD, MOVING_AVG
+    }
+
+    private final Type type;
+    private final String column;
+    private final String name;
+    private final int offset;
+    private final Object defaultValue;
+
+    private WindowFunction(Type type, String column, String name, int offset, Object defaultValue) {
+        this.type = type;
+        this.column = column;
+        this.name = name;
+        this.offset = offset;
+        this.defaultValue = defaultValue;
+    }
+
+    private static WindowFunction of(Type type, String column, int offset, Object defaultValue) {
+        if (column == null) {
+            throw new DataException("The column of a window function must not be null.");
+        }
+        return new WindowFunction(type, column, type.name().toLowerCase() + "_" + column, offset, defaultValue);
+    }
+
+    /**
+     * Numbers the rows of each partition, starting from 1.
+     *
+     * @return a new row number function named {@code row_number}
+     */
+    public static WindowFunction rowNumber() {
+        return new WindowFunction(Type.ROW_NUMBER, null, "row_number", 0, null);
+    }
+
+    /**
+     * Ranks the rows of each partition, starting from 1. Rows with equal values of all order columns
+     * share a rank, and the next rank skips the number of rows that share it.
+     *
+     * @return a new rank function named {@code rank}
+     */
+    public static WindowFunction rank() {
+        return new WindowFunction(Type.RANK, null, "rank", 0, null);
+    }
+
+    /**
+     * Ranks the rows of each partition like {@link #rank()}, but without gaps between ranks.
+     *
+     * @return a new dense rank function named {@code dense_rank}
+     */
+    public static WindowFunction denseRank() {
+        return new WindowFunction(Type.DENSE_RANK, null, "dense_rank", 0, null);
+    }
+
+    /**
+     * Sums the values of a column from the first row of the partition up to and including the current row.
+     * The sum is null until the first non-null value.
+     *
+     * @param column the column whose values are summed
+     * @return a new running sum function named {@code running_sum_<column>}
+     */
+    public static WindowFunction runningSum(String column) {
+        return of(Type.RUNNING_SUM, column, 0, null);
+    }
+
+    /**
+     * Returns the value of a column in the previous row of the partition, or null for the first row.
+     *
+     * @param column the column whose value is returned
+     * @return a new lag function named {@code lag_<column>}
+     */
+    public static WindowFunction lag(String column) {
+        return lag(column, 1, null);
+    }
+
+    /**
+     * Returns the value of a column the given number of rows before the current row in the partition,
+     * or null if there is no such row.
+     *
+     * @param column the column whose value is returned
+     * @param offset the number of rows before the current row, at least 1
+     * @return a new lag function named {@code lag_<column>}
+     */
+    public static WindowFunction lag(String column, int offset) {
+        return lag(column, offset, null);
+    }
+
+    /**
+     * Returns the value of a column the given number of rows before the current row in the partition,
+     * or the default value if there is no such row.
+     *
+     * @param column the column whose value is returned
+     * @param offset the number of rows before the current row, at least 1
+     * @param defaultValue the value returned if there is no such row
+     * @return a new lag function named {@code lag_<column>}
+     */
+    public static WindowFunction lag(String column, int offset, Object defaultValue) {
+        checkPositive(offset, "offset");
+        return of(Type.LAG, column, offset, defaultValue);
+    }
+
+    /**
+     * Returns the value of a column in the next row of the partition, or null for the last row.
+     *
+     * @param column the column whose value is returned
+     * @return a new lead function named {@code lead_<column>}
+     */
+    public static WindowFunction lead(String column) {
+        return lead(column, 1, null);
+    }
+
+    /**
+     * Returns the value of a column the given number of rows after the current row in the partition,
+     * or null if there is no such row.
+     *
+     * @param column the column whose value is returned
+     * @param offset the number of rows after the current row, at least 1
+     * @return a new lead function named {@code lead_<column>}
+     */
+    public static WindowFunction lead(String column, int offset) {
+        return lead(column, offset, null);
+    }
+
+    /**
+     * Returns the value of a column the given number of rows after the current row in the partition,
+     * or the default value if there is no such row.
+     *
+     * @param column the column whose value is returned
+     * @param offset the number of rows after the current row, at least 1
+     * @param defaultValue the value returned if there is no such row
+     * @return a new lead function named {@code lead_<column>}
+     */
+    public static WindowFunction lead(String column, int offset, Object defaultValue) {
+        checkPositive(offset, "offset");
+        return of(Type.LEAD, column, offset, defaultValue);
+    }
+
+    /**
+     * Averages the non-null values of a column over the current row and up to {@code size - 1} preceding rows
+     * of the partition. The average is null if all of these values are null.
+     *
+     * @param column the column whose values are averaged
+     * @param size the number of rows in the moving window, at least 1
+     * @return a new moving average function named {@code moving_avg_<column>}
+     */
+    public static WindowFunction movingAvg(String column, int size) {
+        checkPositive(size, "size");
+        return of(Type.MOVING_AVG, column, size, null);
+    }
+
+    private static void checkPositive(int value, String name) {
+        if (value < 1) {
+            throw new DataException("The " + name + " of a window function must be at least 1: " + value);
+        }
+    }
+
+    /**
+     * Returns a copy of this function with a different result column name.
+     *
+     * @param name the name of the result column
+     * @return a new window function with the given name
+     */
+    public WindowFunction as(String name) {
+        if (name == null) {
+            throw new DataException("The name of a window function must not be null.");
+        }
+        return new WindowFunction(type, column, name, offset, defaultValue);
+    }
+
+    /**
+     * @return the name of the result column
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the column the function reads, or null for {@link #rowNumber()}, {@link #rank()} and {@link #denseRank()}
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * The row offset of {@link Type#LAG} and {@link Type#LEAD}, or the window size of {@link Type#MOVING_AVG}.
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    Object getDefaultValue() {
+        return defaultValue;
+    }
+}
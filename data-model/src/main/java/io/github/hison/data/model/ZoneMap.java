@@ -0,0 +1,193 @@
+package io.github.hison.data.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import io.github.hison.data.condition.Range;
+
+/**
+ * Per-chunk summaries of one column, used to skip chunks of rows that cannot match a {@link Range}.
+ *
+ * <p>The rows are divided into chunks of a fixed number of consecutive rows. For each chunk the minimum and
+ * maximum of the values read as numbers and of the values read as strings are kept, together with flags for
+ * values that cannot be read either way. Appending a row or changing a value only widens the summary of its
+ * chunk, so the summaries stay correct, if possibly loose, without rereading any row. Inserting or removing a
+ * row before the end shifts the rows between chunks, and like a reset it causes the summaries to be rebuilt
+ * on the next search.</p>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class ZoneMap implements RowListener {
+    private final DataModel model;
+    private final String column;
+    private final int chunkSize;
+    private final NumericValue number = new NumericValue();
+    private boolean stale = true;
+    private int chunkCount;
+    private boolean[] hasValue;
+    private boolean[] hasNumber;
+    private double[] numberMin;
+    private double[] numberMax;
+    private boolean[] nonNumber;
+    private String[] stringMin;
+    private String[] stringMax;
+    private boolean[] nonString;
+
+    ZoneMap(DataModel model, String column, int chunkSize) {
+        this.model = model;
+        this.column = column;
+        this.chunkSize = chunkSize;
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    String getColumn() {
+        return column;
+    }
+
+    /**
+     * Returns, for each chunk of the current rows, whether a row of it may be within the range.
+     */
+    boolean[] getCandidateChunks(Range range) {
+        rebuildIfStale();
+        boolean[] candidates = new boolean[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            if (!hasValue[chunk]) {
+                continue;
+            }
+            if (range.isNumeric()) {
+                candidates[chunk] = nonNumber[chunk]
+                        || (hasNumber[chunk] && range.overlaps(numberMin[chunk], numberMax[chunk]));
+            } else {
+                candidates[chunk] = nonString[chunk]
+                        || (stringMin[chunk] != null && range.overlaps(stringMin[chunk], stringMax[chunk]));
+            }
+        }
+        return candidates;
+    }
+
+    private void rebuildIfStale() {
+        if (!stale) {
+            return;
+        }
+        List<HashMap<String, Object>> rows = model.getRowsInternal();
+        int chunks = (rows.size() + chunkSize - 1) / chunkSize;
+        hasValue = new boolean[Math.max(chunks, 4)];
+        hasNumber = new boolean[hasValue.length];
+        numberMin = new double[hasValue.length];
+        numberMax = new double[hasValue.length];
+        nonNumber = new boolean[hasValue.length];
+        stringMin = new String[hasValue.length];
+        stringMax = new String[hasValue.length];
+        nonString = new boolean[hasValue.length];
+        chunkCount = chunks;
+        for (int i = 0; i < rows.size(); i++) {
+            add(i / chunkSize, rows.get(i).get(column));
+        }
+        stale = false;
+    }
+
+    private void ensureChunk(int chunk) {
+        if (chunk >= hasValue.length) {
+            int capacity = Math.max(chunk + 1, hasValue.length << 1);
+            hasValue = Arrays.copyOf(hasValue, capacity);
+            hasNumber = Arrays.copyOf(hasNumber, capacity);
+            numberMin = Arrays.copyOf(numberMin, capacity);
+            numberMax = Arrays.copyOf(numberMax, capacity);
+            nonNumber = Arrays.copyOf(nonNumber, capacity);
+            stringMin = Arrays.copyOf(stringMin, capacity);
+            stringMax = Arrays.copyOf(stringMax, capacity);
+            nonString = Arrays.copyOf(nonString, capacity);
+        }
+        if (chunk >= chunkCount) {
+            chunkCount = chunk + 1;
+        }
+    }
+
+    private void add(int chunk, Object value) {
+        if (value == null) {
+            return;
+        }
+        hasValue[chunk] = true;
+        if (number.parse(value)) {
+            // NaN is never within a range, so it does not widen the summary.
+            double v = number.doubleValue();
+            if (!Double.isNaN(v)) {
+                if (!hasNumber[chunk]) {
+                    hasNumber[chunk] = true;
+                    numberMin[chunk] = v;
+                    numberMax[chunk] = v;
+                } else if (v < numberMin[chunk]) {
+                    numberMin[chunk] = v;
+                } else if (v > numberMax[chunk]) {
+                    numberMax[chunk] = v;
+                }
+            }
+        } else {
+            nonNumber[chunk] = true;
+        }
+        if (value instanceof String || value instanceof Character) {
+            String s = value.toString();
+            if (stringMin[chunk] == null || s.compareTo(stringMin[chunk]) < 0) {
+                stringMin[chunk] = s;
+            }
+            if (stringMax[chunk] == null || s.compareTo(stringMax[chunk]) > 0) {
+                stringMax[chunk] = s;
+            }
+        } else {
+            nonString[chunk] = true;
+        }
+    }
+
+    @Override
+    public void rowInserted(int index, HashMap<String, Object> row) {
+        if (stale) {
+            return;
+        }
+        if (index != model.getRowCount() - 1) {
+            stale = true;
+            return;
+        }
+        int chunk = index / chunkSize;
+        ensureChunk(chunk);
+        add(chunk, row.get(column));
+    }
+
+    @Override
+    public void rowUpdated(int index, HashMap<String, Object> row, String column, Object oldValue) {
+        if (!stale && this.column.equals(column)) {
+            add(index / chunkSize, row.get(column));
+        }
+    }
+
+    @Override
+    public void rowRemoved(int index, HashMap<String, Object> row) {
+        if (stale) {
+            return;
+        }
+        if (index != model.getRowCount()) {
+            stale = true;
+            return;
+        }
+        // The last row was removed: the summary of its chunk stays a valid bound for the remaining rows.
+        if (index % chunkSize == 0) {
+            int chunk = index / chunkSize;
+            hasValue[chunk] = false;
+            hasNumber[chunk] = false;
+            nonNumber[chunk] = false;
+            stringMin[chunk] = null;
+            stringMax[chunk] = null;
+            nonString[chunk] = false;
+            chunkCount = chunk;
+        }
+    }
+
+    @Override
+    public void rowsReset() {
+        stale = true;
+    }
+}
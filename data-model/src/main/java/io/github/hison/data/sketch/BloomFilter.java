@@ -0,0 +1,212 @@
+package io.github.hison.data.sketch;
+
+import java.util.Arrays;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * A Bloom filter: a bit set that answers whether a value may have been added, with no false negatives and a
+ * configurable rate of false positives.
+ *
+ * <p>The number of bits and of hash functions are derived from the expected number of values and the desired
+ * false positive rate. Each value is hashed once to 64 bits and the bit positions are derived from the two
+ * halves of the hash (Kirsch and Mitzenmacher), so a lookup costs one hash and a few memory reads whatever the
+ * number of values. Values are hashed by their string form and null values are ignored. Filters of the same
+ * size can be merged.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * BloomFilter filter = new BloomFilter(100000, 0.01);
+ * filter.add("A01");
+ * filter.mightContain("A01"); // true
+ * filter.mightContain("B02"); // false, or true with a probability of about 1%
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class BloomFilter {
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private long insertions;
+
+    /**
+     * Creates an empty filter sized for the given number of values and false positive rate.
+     *
+     * @param expectedInsertions the number of values expected to be added
+     * @param falsePositiveRate the desired probability that {@link #mightContain(Object)} returns true for a
+     *                          value that was not added, between 0 and 1 exclusive
+     * @throws DataException if an argument is out of range
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new DataException("The expected number of insertions must be positive: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new DataException("The false positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        size = Math.max(64, (size + 63) & ~63L);
+        if (size / 64 > Integer.MAX_VALUE - 8) {
+            throw new DataException("The Bloom filter would be too large: " + size + " bits");
+        }
+        this.bits = new long[(int) (size / 64)];
+        this.bitSize = size;
+        this.hashCount = Math.max(1, (int) Math.round((double) size / expectedInsertions * ln2));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    private BloomFilter(BloomFilter other) {
+        this.bits = other.bits.clone();
+        this.bitSize = other.bitSize;
+        this.hashCount = other.hashCount;
+        this.expectedInsertions = other.expectedInsertions;
+        this.insertions = other.insertions;
+    }
+
+    /**
+     * Adds a value to the filter. Null values are ignored.
+     *
+     * @param value the value to add
+     * @return this filter
+     */
+    public BloomFilter add(Object value) {
+        if (value != null) {
+            addHash(Hashing.hash(value.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a value that has already been hashed to 64 well-mixed bits.
+     *
+     * @param hash the hash of the value
+     * @return this filter
+     */
+    public BloomFilter addHash(long hash) {
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+        insertions++;
+        return this;
+    }
+
+    /**
+     * Returns whether the value may have been added. False means it certainly was not.
+     *
+     * @param value the value to look up
+     * @return false if the value was never added; true if it was added or, rarely, if it was not
+     */
+    public boolean mightContain(Object value) {
+        return value != null && mightContainHash(Hashing.hash(value.toString()));
+    }
+
+    /**
+     * Returns whether a value with the given hash may have been added.
+     *
+     * @param hash the hash of the value
+     * @return false if no value with this hash was added
+     */
+    public boolean mightContainHash(long hash) {
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges another filter into this one. Afterwards this filter may contain every value added to either filter.
+     *
+     * @param other the filter to merge, which is not modified
+     * @return this filter
+     * @throws DataException if the other filter is null or has a different size
+     */
+    public BloomFilter merge(BloomFilter other) {
+        if (other == null) {
+            throw new DataException("The filter to merge must not be null.");
+        }
+        if (other.bitSize != bitSize || other.hashCount != hashCount) {
+            throw new DataException("Cannot merge Bloom filters of different sizes.");
+        }
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+        }
+        insertions += other.insertions;
+        return this;
+    }
+
+    /**
+     * Returns the number of values added, counting repeated values each time.
+     */
+    public long getInsertions() {
+        return insertions;
+    }
+
+    /**
+     * Returns the number of values the filter was sized for.
+     */
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Returns the current false positive rate estimated from the fraction of bits set.
+     */
+    public double getFalsePositiveRate() {
+        long set = 0;
+        for (long word : bits) {
+            set += Long.bitCount(word);
+        }
+        return Math.pow((double) set / bitSize, hashCount);
+    }
+
+    /**
+     * Returns a copy of this filter.
+     *
+     * @return a new filter with the same bits
+     */
+    public BloomFilter copy() {
+        return new BloomFilter(this);
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter{bitSize=" + bitSize + ", hashCount=" + hashCount + ", insertions=" + insertions + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BloomFilter)) {
+            return false;
+        }
+        BloomFilter other = (BloomFilter) obj;
+        return hashCount == other.hashCount && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * hashCount + Arrays.hashCode(bits);
+    }
+}
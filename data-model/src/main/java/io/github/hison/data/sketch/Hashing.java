@@ -0,0 +1,31 @@
+package io.github.hison.data.sketch;
+
+/**
+ * The 64-bit hash shared by the sketches, so that the same value always maps to the same bits.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * Hashes a string to 64 bits: FNV-1a over the characters, followed by the MurmurHash3 finalizer to spread
+     * the bits.
+     */
+    static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,224 @@
+package io.github.hison.data.sketch;
+
+import java.util.Arrays;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Estimates the number of distinct values of a stream using the HyperLogLog algorithm.
+ *
+ * <p>Each value is hashed to 64 bits; the first {@code precision} bits select one of {@code 2^precision}
+ * registers and the register keeps the longest run of leading zeros seen in the remaining bits. The memory used
+ * is one byte per register, whatever the number of values added, and the relative standard error of the estimate
+ * is about {@code 1.04 / sqrt(2^precision)}, or 0.81% for the default precision of 14. Small cardinalities are
+ * estimated by linear counting over the empty registers.</p>
+ *
+ * <p>Sketches with the same precision can be merged, so the distinct count of several {@link
+ * io.github.hison.data.model.DataModel}s can be estimated without combining their rows. Values are hashed by their
+ * string form, so values that are equal as strings count as one value. Null values are ignored.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * HyperLogLog sketch = dataModel1.getDistinctCountSketch("userId");
+ * sketch.merge(dataModel2.getDistinctCountSketch("userId"));
+ * long distinctUsers = sketch.estimate();
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class HyperLogLog {
+    /**
+     * The precision used when none is specified.
+     */
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Creates an empty sketch with the {@link #DEFAULT_PRECISION default precision}.
+     */
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates an empty sketch with {@code 2^precision} registers.
+     *
+     * @param precision the number of hash bits used to select a register, between 4 and 18
+     * @throws DataException if the precision is out of range
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new DataException("The precision must be between 4 and 18.");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Returns the precision of this sketch.
+     *
+     * @return the number of hash bits used to select a register
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns the relative standard error of the estimates of this sketch.
+     *
+     * @return {@code 1.04 / sqrt(2^precision)}
+     */
+    public double getRelativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    /**
+     * Adds a value to the sketch. Null values are ignored.
+     *
+     * @param value the value to add
+     * @return this sketch
+     */
+    public HyperLogLog add(Object value) {
+        if (value != null) {
+            addHash(hash(value.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a value that has already been hashed to 64 well-mixed bits.
+     *
+     * @param hash the hash of the value
+     * @return this sketch
+     */
+    public HyperLogLog addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // The sentinel bit bounds the run of zeros when all remaining bits are zero.
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+        return this;
+    }
+
+    /**
+     * Merges another sketch into this one. Afterwards this sketch estimates the number of distinct values added
+     * to either sketch.
+     *
+     * @param other the sketch to merge, which is not modified
+     * @return this sketch
+     * @throws DataException if the other sketch is null or has a different precision
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other == null) {
+            throw new DataException("The sketch to merge must not be null.");
+        }
+        if (other.precision != precision) {
+            throw new DataException("Cannot merge sketches with different precisions: " + precision + ", " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the estimated number of distinct values added to this sketch.
+     *
+     * @return the estimated distinct count
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Double.longBitsToDouble((1023L - register) << 52);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha;
+        switch (m) {
+            case 16:
+                alpha = 0.673;
+                break;
+            case 32:
+                alpha = 0.697;
+                break;
+            case 64:
+                alpha = 0.709;
+                break;
+            default:
+                alpha = 0.7213 / (1 + 1.079 / m);
+                break;
+        }
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Returns whether no value has been added to this sketch.
+     *
+     * @return true if every register is empty
+     */
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of this sketch.
+     *
+     * @return a new sketch with the same registers
+     */
+    public HyperLogLog copy() {
+        HyperLogLog copy = new HyperLogLog(precision);
+        System.arraycopy(registers, 0, copy.registers, 0, registers.length);
+        return copy;
+    }
+
+    /**
+     * Hashes a string to 64 bits: FNV-1a over the characters, followed by the MurmurHash3 finalizer to spread
+     * the bits.
+     *
+     * @param value the string to hash
+     * @return the 64-bit hash
+     */
+    public static long hash(CharSequence value) {
+        return Hashing.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog{precision=" + precision + ", estimate=" + estimate() + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof HyperLogLog)) {
+            return false;
+        }
+        return Arrays.equals(registers, ((HyperLogLog) obj).registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+}
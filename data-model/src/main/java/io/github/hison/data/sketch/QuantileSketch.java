@@ -0,0 +1,383 @@
+package io.github.hison.data.sketch;
+
+import java.util.Arrays;
+
+import io.github.hison.data.exception.DataException;
+
+/**
+ * Estimates quantiles of a stream of numbers using the KLL algorithm (Karnin, Lang and Liberty).
+ *
+ * <p>The sketch keeps a stack of compactors. New values go into the lowest level; when the sketch exceeds its
+ * capacity, the lowest full level is sorted and every other value of it, starting at a random offset, is moved
+ * one level up, where each value stands for twice as many original values. Level capacities shrink
+ * geometrically towards the bottom, so the sketch holds about {@code 3k} values however many are added. With
+ * the default {@code k} of 200 the rank error of a quantile is about 1.5%.</p>
+ *
+ * <p>Sketches with the same {@code k} can be merged, so quantiles over several
+ * {@link io.github.hison.data.model.DataModel}s can be estimated without combining their rows. The minimum and
+ * maximum are kept exactly. NaN values are ignored.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * QuantileSketch sketch = dataModel.getQuantileSketch("latency");
+ * double[] percentiles = sketch.getQuantiles(0.5, 0.95, 0.99);
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class QuantileSketch {
+    /**
+     * The value of {@code k} used when none is specified.
+     */
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int k;
+    private double[][] levels;
+    private int[] sizes;
+    private int levelCount;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private long random = 0x9E3779B97F4A7C15L;
+
+    // The weighted, sorted view used by queries; rebuilt after the sketch changes.
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    /**
+     * Creates an empty sketch with the {@link #DEFAULT_K default k}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param k the size of the top level; larger values are more accurate and use more memory
+     * @throws DataException if k is less than 8
+     */
+    public QuantileSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new DataException("k must be at least " + MIN_LEVEL_CAPACITY + ".");
+        }
+        this.k = k;
+        this.levels = new double[4][];
+        this.sizes = new int[4];
+        this.levels[0] = new double[k];
+        this.levelCount = 1;
+    }
+
+    /**
+     * Returns the value of k of this sketch.
+     *
+     * @return the size of the top level
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Returns the number of values added to this sketch.
+     *
+     * @return the count of values, including those of merged sketches
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns whether no value has been added to this sketch.
+     *
+     * @return true if the count is zero
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the exact minimum of the values added, or NaN if the sketch is empty.
+     *
+     * @return the minimum value
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the exact maximum of the values added, or NaN if the sketch is empty.
+     *
+     * @return the maximum value
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Adds a value to the sketch. NaN is ignored.
+     *
+     * @param value the value to add
+     * @return this sketch
+     */
+    public QuantileSketch add(double value) {
+        if (Double.isNaN(value)) {
+            return this;
+        }
+        if (count == 0 || value < min) {
+            min = value;
+        }
+        if (count == 0 || value > max) {
+            max = value;
+        }
+        count++;
+        append(0, value);
+        compress();
+        sortedValues = null;
+        return this;
+    }
+
+    /**
+     * Merges another sketch into this one. Afterwards this sketch estimates the quantiles of the values added
+     * to either sketch.
+     *
+     * @param other the sketch to merge, which is not modified
+     * @return this sketch
+     * @throws DataException if the other sketch is null or has a different k
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other == null) {
+            throw new DataException("The sketch to merge must not be null.");
+        }
+        if (other.k != k) {
+            throw new DataException("Cannot merge sketches with different k: " + k + ", " + other.k);
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0 || other.min < min) {
+            min = other.min;
+        }
+        if (count == 0 || other.max > max) {
+            max = other.max;
+        }
+        count += other.count;
+        for (int level = 0; level < other.levelCount; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        compress();
+        sortedValues = null;
+        return this;
+    }
+
+    /**
+     * Returns the estimated value at the given normalized rank, such as 0.5 for the median or 0.99 for the 99th
+     * percentile. Rank 0 returns the minimum and rank 1 the maximum.
+     *
+     * @param rank the normalized rank, between 0 and 1
+     * @return the estimated quantile, or NaN if the sketch is empty
+     * @throws DataException if the rank is out of range
+     */
+    public double getQuantile(double rank) {
+        if (!(rank >= 0 && rank <= 1)) {
+            throw new DataException("The rank must be between 0 and 1: " + rank);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (rank == 0) {
+            return min;
+        }
+        if (rank == 1) {
+            return max;
+        }
+        buildSortedView();
+        long target = (long) Math.ceil(rank * count);
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return sortedValues[Math.min(index, sortedValues.length - 1)];
+    }
+
+    /**
+     * Returns the estimated values at several normalized ranks.
+     *
+     * @param ranks the normalized ranks, each between 0 and 1
+     * @return the estimated quantiles, in the order of the ranks
+     * @throws DataException if a rank is out of range
+     */
+    public double[] getQuantiles(double... ranks) {
+        double[] quantiles = new double[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            quantiles[i] = getQuantile(ranks[i]);
+        }
+        return quantiles;
+    }
+
+    /**
+     * Returns the estimated fraction of the values added that are less than or equal to the given value.
+     *
+     * @param value the value to rank
+     * @return the estimated normalized rank, or NaN if the sketch is empty
+     */
+    public double getRank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        buildSortedView();
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low == 0 ? 0 : (double) cumulativeWeights[low - 1] / count;
+    }
+
+    /**
+     * Returns a copy of this sketch.
+     *
+     * @return a new sketch with the same state
+     */
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(k);
+        copy.levels = new double[levels.length][];
+        for (int level = 0; level < levelCount; level++) {
+            copy.levels[level] = levels[level].clone();
+        }
+        copy.sizes = sizes.clone();
+        copy.levelCount = levelCount;
+        copy.count = count;
+        copy.min = min;
+        copy.max = max;
+        copy.random = random;
+        return copy;
+    }
+
+    private int getCapacity(int level) {
+        int depth = levelCount - level - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+    }
+
+    private void append(int level, double value) {
+        while (level >= levelCount) {
+            addLevel();
+        }
+        double[] items = levels[level];
+        if (sizes[level] == items.length) {
+            levels[level] = items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[sizes[level]++] = value;
+    }
+
+    private void addLevel() {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount * 2);
+            sizes = Arrays.copyOf(sizes, levelCount * 2);
+        }
+        levels[levelCount] = new double[MIN_LEVEL_CAPACITY];
+        sizes[levelCount] = 0;
+        levelCount++;
+    }
+
+    private void compress() {
+        while (true) {
+            int size = 0;
+            int capacity = 0;
+            for (int level = 0; level < levelCount; level++) {
+                size += sizes[level];
+                capacity += getCapacity(level);
+            }
+            if (size < capacity) {
+                return;
+            }
+            int level = 0;
+            while (sizes[level] < getCapacity(level)) {
+                level++;
+            }
+            compact(level);
+        }
+    }
+
+    /**
+     * Moves every other value of a sorted level up one level; an odd value out stays where it is.
+     */
+    private void compact(int level) {
+        if (level + 1 == levelCount) {
+            addLevel();
+        }
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        int pairs = size / 2;
+        int start = size - 2 * pairs;
+        int offset = nextBit();
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, items[start + 2 * i + offset]);
+        }
+        sizes[level] = start;
+    }
+
+    private int nextBit() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return (int) (random >>> 63);
+    }
+
+    private void buildSortedView() {
+        if (sortedValues != null) {
+            return;
+        }
+        int total = 0;
+        for (int level = 0; level < levelCount; level++) {
+            total += sizes[level];
+        }
+        double[] values = new double[total];
+        long[] weights = new long[total];
+        int size = 0;
+        for (int level = 0; level < levelCount; level++) {
+            double[] items = Arrays.copyOf(levels[level], sizes[level]);
+            Arrays.sort(items);
+            size = mergeLevel(values, weights, size, items, 1L << level);
+        }
+        for (int i = 1; i < size; i++) {
+            weights[i] += weights[i - 1];
+        }
+        sortedValues = values;
+        cumulativeWeights = weights;
+    }
+
+    /**
+     * Merges the sorted items of a level, each with the same weight, into the sorted values built so far.
+     */
+    private static int mergeLevel(double[] values, long[] weights, int size, double[] items, long weight) {
+        int i = size - 1;
+        int j = items.length - 1;
+        int target = size + items.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && values[i] > items[j]) {
+                values[target] = values[i];
+                weights[target--] = weights[i--];
+            } else {
+                values[target] = items[j--];
+                weights[target--] = weight;
+            }
+        }
+        return size + items.length;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{k=" + k + ", count=" + count + ", min=" + min + ", max=" + max + "}";
+    }
+}
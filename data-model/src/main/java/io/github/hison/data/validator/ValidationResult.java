@@ -0,0 +1,59 @@
+package io.github.hison.data.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The violations found by {@link Validator#validate(io.github.hison.data.model.DataModel)}, ordered by row
+ * index and, within a row, by the order in which the rules were added.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class ValidationResult {
+    private final List<Violation> violations;
+
+    ValidationResult(List<Violation> violations) {
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Returns whether no rule is violated.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Returns all violations.
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Returns the violations of the specified column.
+     */
+    public List<Violation> getViolations(String column) {
+        List<Violation> result = new ArrayList<>();
+        for (Violation violation : violations) {
+            if (violation.getColumn().equals(column)) {
+                result.add(violation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first violation, or null if there is none.
+     */
+    public Violation getFirstViolation() {
+        return violations.isEmpty() ? null : violations.get(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{violations=" + violations + "}";
+    }
+}
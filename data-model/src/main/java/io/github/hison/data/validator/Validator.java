@@ -0,0 +1,306 @@
+package io.github.hison.data.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import io.github.hison.data.condition.Range;
+import io.github.hison.data.exception.DataException;
+import io.github.hison.data.model.DataModel;
+
+/**
+ * Checks many rules over many columns of a {@link DataModel} in a single pass and reports every violation.
+ *
+ * <p>Each column used by the rules is read once per row, however many rules use it, and every rule is checked
+ * for every row instead of stopping at the first failure. Except for {@link #notNull(String...)}, rules ignore
+ * null values, like {@link DataModel#isValidValue(String, Predicate)} and
+ * {@link DataModel#isNotDuplColumn(String)}. For a {@link #unique(String...)} rule, the first row with a value
+ * is valid and every later row with the same value is a violation. A validator can be built once and used for
+ * any number of DataModels, also concurrently.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * Validator validator = new Validator()
+ *         .notNull("id", "name", "email")
+ *         .unique("id")
+ *         .pattern("email", "^[\\w.-]+@([\\w\\-]+\\.)+[A-Za-z]{2,4}$")
+ *         .range("age", Range.between(0, 150));
+ * ValidationResult result = validator.validate(dataModel);
+ * for (Violation violation : result.getViolations()) {
+ *     System.out.println(violation.getRowIndex() + " " + violation.getColumn() + " " + violation.getRule());
+ * }
+ * </pre>
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class Validator {
+    private final List<Rule> rules = new ArrayList<>();
+
+    private abstract static class Rule {
+        final String column;
+        final String name;
+
+        Rule(String column, String name) {
+            if (column == null) {
+                throw new DataException("The column name must not be null.");
+            }
+            this.column = column;
+            this.name = name;
+        }
+
+        boolean isUnique() {
+            return false;
+        }
+
+        /**
+         * Tests a non-null value, or any value for a rule that {@link #checksNull() checks nulls}.
+         */
+        abstract boolean test(Object value);
+
+        boolean checksNull() {
+            return false;
+        }
+    }
+
+    /**
+     * Requires the values of the specified columns to be non-null. The rule is named {@code "notNull"}.
+     *
+     * @param columns The names of the columns.
+     * @return this validator for method chaining.
+     */
+    public Validator notNull(String... columns) {
+        for (String column : columns) {
+            rules.add(new Rule(column, "notNull") {
+                @Override
+                boolean test(Object value) {
+                    return value != null;
+                }
+
+                @Override
+                boolean checksNull() {
+                    return true;
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Requires the non-null values of each of the specified columns to be unique within the column.
+     * The rule is named {@code "unique"}.
+     *
+     * @param columns The names of the columns.
+     * @return this validator for method chaining.
+     */
+    public Validator unique(String... columns) {
+        for (String column : columns) {
+            rules.add(new Rule(column, "unique") {
+                @Override
+                boolean isUnique() {
+                    return true;
+                }
+
+                @Override
+                boolean test(Object value) {
+                    return true;
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Requires the string form of the non-null values of a column to match a regular expression entirely.
+     * The rule is named {@code "pattern"}.
+     *
+     * @param column The name of the column.
+     * @param regex The regular expression, compiled once.
+     * @return this validator for method chaining.
+     */
+    public Validator pattern(String column, String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        rules.add(new Rule(column, "pattern") {
+            @Override
+            boolean test(Object value) {
+                return pattern.matcher(value.toString()).matches();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Requires the non-null values of a column to be within a range. With numeric bounds, a value that cannot
+     * be read as a number is a violation. The rule is named {@code "range"}.
+     *
+     * @param column The name of the column.
+     * @param range The range of valid values.
+     * @return this validator for method chaining.
+     */
+    public Validator range(String column, Range range) {
+        if (range == null) {
+            throw new DataException("The range must not be null.");
+        }
+        rules.add(new Rule(column, "range") {
+            @Override
+            boolean test(Object value) {
+                try {
+                    return range.test(value);
+                } catch (DataException e) {
+                    return false;
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Requires the non-null values of a column to satisfy a predicate.
+     *
+     * @param column The name of the column.
+     * @param name The name of the rule, reported in the violations.
+     * @param predicate The predicate valid values satisfy; it must be thread-safe to validate in parallel.
+     * @return this validator for method chaining.
+     */
+    public Validator rule(String column, String name, Predicate<Object> predicate) {
+        if (name == null || predicate == null) {
+            throw new DataException("The rule name and the predicate must not be null.");
+        }
+        rules.add(new Rule(column, name) {
+            @Override
+            boolean test(Object value) {
+                return predicate.test(value);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Checks all rules against the rows of the DataModel in one pass on the calling thread.
+     *
+     * @param dataModel The DataModel to validate.
+     * @return The violations, ordered by row index and rule.
+     * @throws DataException if a column of a rule does not exist in the DataModel.
+     */
+    public ValidationResult validate(DataModel dataModel) {
+        return validate(dataModel, false);
+    }
+
+    /**
+     * Checks all rules against the rows of the DataModel in one pass, optionally splitting the rows across the
+     * threads of the common fork-join pool. The result is the same in both modes.
+     *
+     * @param dataModel The DataModel to validate.
+     * @param parallel If true, the rows are checked in parallel.
+     * @return The violations, ordered by row index and rule.
+     * @throws DataException if a column of a rule does not exist in the DataModel.
+     */
+    public ValidationResult validate(DataModel dataModel, boolean parallel) {
+        Map<String, Integer> columnIndexes = new LinkedHashMap<>();
+        for (Rule rule : rules) {
+            if (!dataModel.hasColumn(rule.column)) {
+                throw new DataException("Column " + rule.column + " does not exist.");
+            }
+            columnIndexes.putIfAbsent(rule.column, columnIndexes.size());
+        }
+        String[] columns = columnIndexes.keySet().toArray(new String[0]);
+        int[] ruleColumns = new int[rules.size()];
+        for (int r = 0; r < ruleColumns.length; r++) {
+            ruleColumns[r] = columnIndexes.get(rules.get(r).column);
+        }
+        List<HashMap<String, Object>> rows = dataModel.getUnmodifiableRows();
+        return parallel ? validateParallel(rows, columns, ruleColumns) : validateSequential(rows, columns, ruleColumns);
+    }
+
+    private ValidationResult validateSequential(List<HashMap<String, Object>> rows, String[] columns, int[] ruleColumns) {
+        List<Violation> violations = new ArrayList<>();
+        List<Set<Object>> seen = new ArrayList<>();
+        for (Rule rule : rules) {
+            seen.add(rule.isUnique() ? new HashSet<>() : null);
+        }
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < rows.size(); i++) {
+            HashMap<String, Object> row = rows.get(i);
+            for (int c = 0; c < columns.length; c++) {
+                values[c] = row.get(columns[c]);
+            }
+            for (int r = 0; r < ruleColumns.length; r++) {
+                Rule rule = rules.get(r);
+                Object value = values[ruleColumns[r]];
+                if (value == null && !rule.checksNull()) {
+                    continue;
+                }
+                boolean valid = rule.isUnique() ? seen.get(r).add(value) : rule.test(value);
+                if (!valid) {
+                    violations.add(new Violation(i, rule.column, rule.name, value));
+                }
+            }
+        }
+        return new ValidationResult(violations);
+    }
+
+    private ValidationResult validateParallel(List<HashMap<String, Object>> rows, String[] columns, int[] ruleColumns) {
+        int size = rows.size();
+        // For unique rules, the values and the first row of each value; duplicates are found after the pass.
+        List<Object[]> uniqueValues = new ArrayList<>();
+        List<ConcurrentHashMap<Object, Integer>> firstRows = new ArrayList<>();
+        for (Rule rule : rules) {
+            uniqueValues.add(rule.isUnique() ? new Object[size] : null);
+            firstRows.add(rule.isUnique() ? new ConcurrentHashMap<>() : null);
+        }
+        ConcurrentLinkedQueue<long[]> found = new ConcurrentLinkedQueue<>();
+        IntStream.range(0, size).parallel().forEach(i -> {
+            HashMap<String, Object> row = rows.get(i);
+            Object[] values = new Object[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                values[c] = row.get(columns[c]);
+            }
+            for (int r = 0; r < ruleColumns.length; r++) {
+                Rule rule = rules.get(r);
+                Object value = values[ruleColumns[r]];
+                if (value == null && !rule.checksNull()) {
+                    continue;
+                }
+                if (rule.isUnique()) {
+                    uniqueValues.get(r)[i] = value;
+                    firstRows.get(r).merge(value, i, Math::min);
+                } else if (!rule.test(value)) {
+                    found.add(new long[] { i, r });
+                }
+            }
+        });
+        for (int r = 0; r < ruleColumns.length; r++) {
+            Object[] values = uniqueValues.get(r);
+            if (values == null) {
+                continue;
+            }
+            Map<Object, Integer> first = firstRows.get(r);
+            for (int i = 0; i < size; i++) {
+                if (values[i] != null && first.get(values[i]) != i) {
+                    found.add(new long[] { i, r });
+                }
+            }
+        }
+
+        long[][] sorted = found.toArray(new long[0][]);
+        Arrays.sort(sorted, Comparator.<long[]>comparingLong(v -> v[0]).thenComparingLong(v -> v[1]));
+        List<Violation> violations = new ArrayList<>(sorted.length);
+        for (long[] violation : sorted) {
+            int i = (int) violation[0];
+            Rule rule = rules.get((int) violation[1]);
+            violations.add(new Violation(i, rule.column, rule.name, rows.get(i).get(rule.column)));
+        }
+        return new ValidationResult(violations);
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.hison.data.validator;
+
+/**
+ * A rule of a {@link Validator} that a value of a row does not satisfy.
+ *
+ * @author Hani son
+ * @version 1.0.7
+ */
+public final class Violation {
+    private final int rowIndex;
+    private final String column;
+    private final String rule;
+    private final Object value;
+
+    Violation(int rowIndex, String column, String rule, Object value) {
+        this.rowIndex = rowIndex;
+        this.column = column;
+        this.rule = rule;
+        this.value = value;
+    }
+
+    /**
+     * Returns the index of the row in the validated DataModel.
+     */
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Returns the name of the violated rule, such as {@code "notNull"} or the name of a custom rule.
+     */
+    public String getRule() {
+        return rule;
+    }
+
+    /**
+     * Returns the value that violates the rule.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "Violation{rowIndex=" + rowIndex + ", column=" + column + ", rule=" + rule + ", value=" + value + "}";
+    }
+}
@@ -4,13 +4,16 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import io.github.hison.data.model.DataModel;
 
 import java.io.IOException;
 
 /**
+ * Reads a {@link DataWrapper} from a JSON object in a single pass over the tokens of the parser.
+ * Object and array values are read as {@link DataModel}s directly from the parser by its deserializer,
+ * without building a tree first.
+ *
  * @author Hani son
  * @version 1.0.7
  */
@@ -21,13 +24,11 @@ public class DataWrapperDeserializer extends JsonDeserializer<DataWrapper> {
         DataWrapper dataWrapper = new DataWrapper();
 
         if (jp.isExpectedStartObjectToken()) {
-            while (jp.nextToken() != JsonToken.END_OBJECT) {
-                String key = jp.getCurrentName();
-                jp.nextToken();
-                JsonToken currentToken = jp.getCurrentToken();
+            String key;
+            while ((key = jp.nextFieldName()) != null) {
+                JsonToken currentToken = jp.nextToken();
                 if (currentToken == JsonToken.START_OBJECT || currentToken == JsonToken.START_ARRAY) {
-                    JsonNode valueNode = jp.readValueAsTree();
-                    DataModel dataModel = new DataModel(valueNode);
+                    DataModel dataModel = ctxt.readValue(jp, DataModel.class);
                     dataWrapper.putDataModel(key, dataModel);
                 } else if (currentToken == JsonToken.VALUE_NULL) {
                     dataWrapper.put(key, null);